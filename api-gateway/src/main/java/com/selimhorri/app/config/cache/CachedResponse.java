@@ -0,0 +1,140 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A stored upstream response with its freshness window computed once from Cache-Control: 
+ * fresh until s-maxage/max-age, then usable while revalidating until stale-while-revalidate 
+ * runs out, and only through a conditional request afterwards.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CachedResponse {
+	
+	private static final Set<String> UNSTORED_HEADERS = Set.of(HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT), 
+			HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT), HttpHeaders.CONNECTION.toLowerCase(Locale.ROOT), 
+			HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT), HttpHeaders.AGE.toLowerCase(Locale.ROOT));
+	private static final Set<String> REVALIDATION_HEADERS = Set.of(HttpHeaders.CACHE_CONTROL, HttpHeaders.ETAG, 
+			HttpHeaders.EXPIRES, HttpHeaders.DATE, HttpHeaders.LAST_MODIFIED);
+	
+	private final HttpHeaders headers;
+	private final byte[] body;
+	private final Instant storedAt;
+	private final Instant freshUntil;
+	private final Instant staleUntil;
+	
+	public static CachedResponse of(final HttpHeaders headers, final byte[] body, final Instant now) {
+		final var directives = directives(headers);
+		final var revalidate = directives.containsKey("no-cache") || directives.containsKey("must-revalidate") 
+				|| directives.containsKey("proxy-revalidate");
+		final long maxAge = directives.containsKey("no-cache") ? 0L : seconds(directives, "s-maxage")
+				.or(() -> seconds(directives, "max-age"))
+				.orElse(0L);
+		final long staleWhileRevalidate = revalidate ? 0L : seconds(directives, "stale-while-revalidate").orElse(0L);
+		final var stored = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			final var lowerName = name.toLowerCase(Locale.ROOT);
+			if (!UNSTORED_HEADERS.contains(lowerName) && !lowerName.startsWith("access-control-"))
+				stored.put(name, values);
+		});
+		final var freshUntil = now.plusSeconds(maxAge);
+		return new CachedResponse(HttpHeaders.readOnlyHttpHeaders(stored), body, now, freshUntil, 
+				freshUntil.plusSeconds(staleWhileRevalidate));
+	}
+	
+	/**
+	 * Shared-cache rules: nothing marked no-store or private, nothing setting cookies, nothing 
+	 * varying on headers outside the cache key, and only responses that can either be served 
+	 * fresh for a while or be revalidated with their ETag.
+	 */
+	public static boolean isStorable(final HttpHeaders headers, final Collection<String> keyHeaders) {
+		final var directives = directives(headers);
+		if (directives.containsKey("no-store") || directives.containsKey("private") 
+				|| headers.containsKey(HttpHeaders.SET_COOKIE))
+			return false;
+		final var varies = headers.getVary()
+				.stream()
+					.allMatch(vary -> keyHeaders.stream().anyMatch(vary::equalsIgnoreCase));
+		final var freshFor = directives.containsKey("no-cache") ? 0L : seconds(directives, "s-maxage")
+				.or(() -> seconds(directives, "max-age"))
+				.orElse(0L);
+		return varies && (freshFor > 0 || headers.getETag() != null);
+	}
+	
+	public static Map<String, String> directives(final HttpHeaders headers) {
+		final var directives = new HashMap<String, String>();
+		headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).forEach(value -> {
+			for (final var directive : value.split(",")) {
+				final var separator = directive.indexOf('=');
+				if (separator < 0)
+					directives.put(directive.trim().toLowerCase(Locale.ROOT), "");
+				else
+					directives.put(directive.substring(0, separator).trim().toLowerCase(Locale.ROOT), 
+							directive.substring(separator + 1).trim().replace("\"", ""));
+			}
+		});
+		return directives;
+	}
+	
+	public CachedResponse revalidated(final HttpHeaders notModifiedHeaders, final Instant now) {
+		final var merged = new HttpHeaders();
+		merged.putAll(this.headers);
+		notModifiedHeaders.forEach((name, values) -> {
+			if (REVALIDATION_HEADERS.stream().anyMatch(name::equalsIgnoreCase))
+				merged.put(name, values);
+		});
+		return of(merged, this.body, now);
+	}
+	
+	public String getETag() {
+		return this.headers.getETag();
+	}
+	
+	public boolean isFresh(final Instant now) {
+		return now.isBefore(this.freshUntil);
+	}
+	
+	public boolean isUsableWhileRevalidating(final Instant now) {
+		return now.isBefore(this.staleUntil);
+	}
+	
+	public int weight() {
+		return this.body.length;
+	}
+	
+	private static Optional<Long> seconds(final Map<String, String> directives, final String name) {
+		try {
+			return Optional.ofNullable(directives.get(name))
+					.filter(value -> !value.isEmpty())
+					.map(Long::parseLong);
+		}
+		catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,58 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.filter.ResponseCacheGlobalFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ResponseCacheConfig {
+	
+	private final ResponseCacheProperties responseCacheProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Bean
+	public Cache<String, CachedResponse> responseCacheBean() {
+		return CaffeineCacheMetrics.monitor(this.meterRegistry, Caffeine.newBuilder()
+				.maximumWeight(this.responseCacheProperties.getMaximumSize().toBytes())
+				.<String, CachedResponse>weigher((key, cachedResponse) -> key.length() + cachedResponse.weight())
+				.expireAfterAccess(this.responseCacheProperties.getExpireAfterAccess())
+				.recordStats()
+				.build(), 
+				"gatewayResponses");
+	}
+	
+	@Bean
+	public ResponseCacheGlobalFilter responseCacheGlobalFilterBean(final Cache<String, CachedResponse> responseCache, 
+			final WebClient.Builder webClientBuilder, 
+			final LoadBalancedExchangeFilterFunction loadBalancedExchangeFilterFunction) {
+		return new ResponseCacheGlobalFilter(this.responseCacheProperties, responseCache, webClientBuilder
+				.filter(loadBalancedExchangeFilterFunction)
+				.codecs(codecs -> codecs.defaultCodecs()
+						.maxInMemorySize((int) this.responseCacheProperties.getMaximumObjectSize().toBytes()))
+				.build(), 
+				this.meterRegistry);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.gateway.response-cache")
+@Data
+public class ResponseCacheProperties {
+	
+	private Set<String> routes = Set.of("PRODUCT-SERVICE");
+	private List<String> keyHeaders = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+	private DataSize maximumSize = DataSize.ofMegabytes(64);
+	private DataSize maximumObjectSize = DataSize.ofKilobytes(512);
+	private Duration expireAfterAccess = Duration.ofMinutes(10);
+	private Duration revalidationTimeout = Duration.ofSeconds(5);
+	private Duration coalescingTimeout = Duration.ofSeconds(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
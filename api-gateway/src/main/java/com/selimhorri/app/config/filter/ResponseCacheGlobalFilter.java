@@ -0,0 +1,308 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.CachedResponse;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Shared response cache for anonymous GETs on the configured routes. Fresh entries are served 
+ * at the edge, entries inside their stale-while-revalidate window are served while a background 
+ * conditional request refreshes them, and older entries are revalidated in line with If-None-Match 
+ * so a 304 from the service still avoids shipping the body again. Identical requests arriving 
+ * while one is already on its way upstream wait for that response instead of sending their own.
+ * The filter runs ahead of the route filters, so responses served from the cache (hits, stale and 
+ * coalesced) are exempt from the route's RequestRateLimiter: they cost the services nothing, and 
+ * only requests that actually go upstream are charged.
+ */
+@Slf4j
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+	
+	private static final String CACHE_STATUS_HEADER = "X-Cache";
+	
+	public enum CacheResult { HIT, STALE, REVALIDATED, COALESCED, MISS, BYPASS }
+	
+	private final ResponseCacheProperties responseCacheProperties;
+	private final Cache<String, CachedResponse> responseCache;
+	private final WebClient webClient;
+	private final Map<CacheResult, Counter> counters = new EnumMap<>(CacheResult.class);
+	private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+	private final Map<String, Sinks.One<CachedResponse>> fills = new ConcurrentHashMap<>();
+	
+	public ResponseCacheGlobalFilter(final ResponseCacheProperties responseCacheProperties, 
+			final Cache<String, CachedResponse> responseCache, final WebClient webClient, final MeterRegistry meterRegistry) {
+		this.responseCacheProperties = responseCacheProperties;
+		this.responseCache = responseCache;
+		this.webClient = webClient;
+		for (final var result : CacheResult.values())
+			this.counters.put(result, Counter.builder("gateway.response.cache.requests")
+					.tag("result", result.name().toLowerCase(Locale.ROOT))
+					.register(meterRegistry));
+		Gauge.builder("gateway.response.cache.hit.ratio", this, ResponseCacheGlobalFilter::hitRatio)
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public int getOrder() {
+		return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		final var request = exchange.getRequest();
+		if (route == null || request.getMethod() != HttpMethod.GET 
+				|| !this.responseCacheProperties.getRoutes().contains(route.getId()))
+			return chain.filter(exchange);
+		
+		final var requestDirectives = CachedResponse.directives(request.getHeaders());
+		if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) || requestDirectives.containsKey("no-store")) {
+			this.counters.get(CacheResult.BYPASS).increment();
+			return chain.filter(exchange);
+		}
+		
+		final var key = this.key(route, request);
+		final var now = Instant.now();
+		final var cached = this.responseCache.getIfPresent(key);
+		final var mustRevalidate = requestDirectives.containsKey("no-cache");
+		
+		if (cached != null && !mustRevalidate && cached.isFresh(now)) {
+			this.counters.get(CacheResult.HIT).increment();
+			return write(exchange, cached, CacheResult.HIT);
+		}
+		
+		if (cached != null && !mustRevalidate && cached.isUsableWhileRevalidating(now)) {
+			this.counters.get(CacheResult.STALE).increment();
+			this.revalidateInBackground(route, request, key, cached);
+			return write(exchange, cached, CacheResult.STALE);
+		}
+		
+		final var fill = Sinks.<CachedResponse>one();
+		final var inFlight = this.fills.putIfAbsent(key, fill);
+		if (inFlight != null)
+			return this.awaitFill(exchange, chain, inFlight);
+		
+		final var revalidation = (cached != null && cached.getETag() != null 
+				&& !request.getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)) ? cached : null;
+		final var forwarded = (revalidation == null) ? request : request.mutate()
+				.headers(headers -> headers.setIfNoneMatch(revalidation.getETag()))
+				.build();
+		return chain.filter(exchange.mutate()
+				.request(forwarded)
+				.response(new CachingResponse(exchange.getResponse(), key, revalidation, fill))
+				.build())
+				.doFinally(signal -> {
+					this.fills.remove(key, fill);
+					fill.tryEmitEmpty();
+				});
+	}
+	
+	/**
+	 * Serves the response the in-flight request for the same key stores, or goes upstream 
+	 * on its own when that one turns out not to be storable or takes too long.
+	 */
+	private Mono<Void> awaitFill(final ServerWebExchange exchange, final GatewayFilterChain chain, 
+			final Sinks.One<CachedResponse> inFlight) {
+		return inFlight.asMono()
+				.timeout(this.responseCacheProperties.getCoalescingTimeout())
+				.map(Optional::of)
+				.onErrorReturn(Optional.empty())
+				.defaultIfEmpty(Optional.empty())
+				.flatMap(shared -> {
+					if (shared.isEmpty()) {
+						this.counters.get(CacheResult.BYPASS).increment();
+						return chain.filter(exchange);
+					}
+					this.counters.get(CacheResult.COALESCED).increment();
+					return write(exchange, shared.get(), CacheResult.COALESCED);
+				});
+	}
+	
+	private double hitRatio() {
+		final var served = this.counters.get(CacheResult.HIT).count() + this.counters.get(CacheResult.STALE).count() 
+				+ this.counters.get(CacheResult.REVALIDATED).count() + this.counters.get(CacheResult.COALESCED).count();
+		final var total = served + this.counters.get(CacheResult.MISS).count();
+		return (total == 0) ? 0 : served / total;
+	}
+	
+	private String key(final Route route, final ServerHttpRequest request) {
+		return route.getId() + " " + request.getURI().getRawPath() + "?" + request.getURI().getRawQuery() + " " 
+				+ this.responseCacheProperties.getKeyHeaders()
+						.stream()
+							.map(name -> name + "=" + request.getHeaders().getOrEmpty(name))
+							.collect(Collectors.joining(" "));
+	}
+	
+	private static Mono<Void> write(final ServerWebExchange exchange, final CachedResponse cached, final CacheResult result) {
+		final var response = exchange.getResponse();
+		final var ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+		response.getHeaders().putAll(cached.getHeaders());
+		response.getHeaders().set(CACHE_STATUS_HEADER, result.name());
+		if (cached.getETag() != null && (ifNoneMatch.contains(cached.getETag()) || ifNoneMatch.contains("*"))) {
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			response.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+			response.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+			return response.setComplete();
+		}
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentLength(cached.getBody().length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+	}
+	
+	private void revalidateInBackground(final Route route, final ServerHttpRequest request, final String key, 
+			final CachedResponse cached) {
+		if (!this.revalidating.add(key))
+			return;
+		final var origin = route.getUri();
+		final var uri = URI.create(("lb".equals(origin.getScheme()) ? "http://" + origin.getHost() : origin.toString())
+				+ request.getURI().getRawPath() 
+				+ ((request.getURI().getRawQuery() == null) ? "" : "?" + request.getURI().getRawQuery()));
+		this.webClient.get()
+				.uri(uri)
+				.headers(headers -> {
+					this.responseCacheProperties.getKeyHeaders()
+							.forEach(name -> headers.addAll(name, request.getHeaders().getOrEmpty(name)));
+					if (cached.getETag() != null)
+						headers.setIfNoneMatch(cached.getETag());
+				})
+				.<CachedResponse>exchangeToMono(response -> {
+					final var headers = response.headers().asHttpHeaders();
+					if (response.statusCode() == HttpStatus.NOT_MODIFIED)
+						return response.releaseBody()
+								.thenReturn(cached.revalidated(headers, Instant.now()));
+					if (response.statusCode() == HttpStatus.OK 
+							&& CachedResponse.isStorable(headers, this.responseCacheProperties.getKeyHeaders()))
+						return response.bodyToMono(byte[].class)
+								.defaultIfEmpty(new byte[0])
+								.map(body -> CachedResponse.of(headers, body, Instant.now()));
+					return response.releaseBody()
+							.then(Mono.<CachedResponse>fromRunnable(() -> this.responseCache.invalidate(key)));
+				})
+				.timeout(this.responseCacheProperties.getRevalidationTimeout())
+				.doFinally(signal -> this.revalidating.remove(key))
+				.subscribe(refreshed -> this.responseCache.put(key, refreshed), 
+						e -> log.warn("*** Unable to revalidate {}, keeping stale entry: {} *", key, e.toString()));
+	}
+	
+	/**
+	 * Tees the upstream body into the cache while it streams to the client, giving up on 
+	 * bodies above the object size limit, and turns a 304 answering our own If-None-Match 
+	 * back into the cached 200. Whatever gets stored is also handed to the requests waiting 
+	 * on this one. Streaming media types go through writeAndFlushWith and are never cached.
+	 */
+	private final class CachingResponse extends ServerHttpResponseDecorator {
+		
+		private final String key;
+		private final CachedResponse revalidation;
+		private final Sinks.One<CachedResponse> fill;
+		
+		private CachingResponse(final ServerHttpResponse delegate, final String key, final CachedResponse revalidation, 
+				final Sinks.One<CachedResponse> fill) {
+			super(delegate);
+			this.key = key;
+			this.revalidation = revalidation;
+			this.fill = fill;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			final var status = this.getStatusCode();
+			
+			if (status == HttpStatus.NOT_MODIFIED && this.revalidation != null) {
+				counters.get(CacheResult.REVALIDATED).increment();
+				final var refreshed = this.revalidation.revalidated(this.getHeaders(), Instant.now());
+				responseCache.put(this.key, refreshed);
+				this.fill.tryEmitValue(refreshed);
+				this.setStatusCode(HttpStatus.OK);
+				this.getHeaders().putAll(refreshed.getHeaders());
+				this.getHeaders().setContentLength(refreshed.getBody().length);
+				this.getHeaders().set(CACHE_STATUS_HEADER, CacheResult.REVALIDATED.name());
+				return Flux.from(body)
+						.doOnNext(DataBufferUtils::release)
+						.then(super.writeWith(Mono.just(this.bufferFactory().wrap(refreshed.getBody()))));
+			}
+			
+			counters.get(CacheResult.MISS).increment();
+			this.getHeaders().set(CACHE_STATUS_HEADER, CacheResult.MISS.name());
+			if (status != HttpStatus.OK || !CachedResponse.isStorable(this.getHeaders(), 
+					responseCacheProperties.getKeyHeaders()))
+				return super.writeWith(body);
+			
+			final var limit = responseCacheProperties.getMaximumObjectSize().toBytes();
+			final var captured = new ByteArrayOutputStream();
+			final var overflow = new AtomicBoolean();
+			final var headers = this.getHeaders();
+			return super.writeWith(Flux.from(body)
+					.doOnNext(buffer -> {
+						if (overflow.get())
+							return;
+						if (captured.size() + buffer.readableByteCount() > limit) {
+							overflow.set(true);
+							return;
+						}
+						final var bytes = new byte[buffer.readableByteCount()];
+						buffer.asByteBuffer().get(bytes);
+						captured.writeBytes(bytes);
+					})
+					.doOnComplete(() -> {
+						if (overflow.get())
+							return;
+						final var stored = CachedResponse.of(headers, captured.toByteArray(), Instant.now());
+						responseCache.put(this.key, stored);
+						this.fill.tryEmitValue(stored);
+					}));
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,71 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.io.IOException;
+import java.util.Base64;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keys rate limits by client address, narrowed by the JWT subject of bearer requests. The token is 
+ * only decoded here, its signature is checked by proxy-client, so the subject is untrusted: 
+ * {@link TokenBucketRateLimiter} still charges every subject key against a shared bucket for its 
+ * address, and rotating forged subjects from one client cannot escape that limit.
+ */
+@RequiredArgsConstructor
+public class ClientKeyResolver implements KeyResolver {
+	
+	public static final String SUBJECT_SEPARATOR = "|sub:";
+	private static final String BEARER_PREFIX = "Bearer ";
+	
+	private final RemoteAddressResolver remoteAddressResolver;
+	private final ObjectMapper objectMapper;
+	
+	@Override
+	public Mono<String> resolve(final ServerWebExchange exchange) {
+		final var remoteAddress = this.remoteAddressResolver.resolve(exchange);
+		final var address = "ip:" + ((remoteAddress == null || remoteAddress.getAddress() == null) ? 
+				"unknown" : remoteAddress.getAddress().getHostAddress());
+		final var authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+			final var subject = this.subject(authorization.substring(BEARER_PREFIX.length()));
+			if (subject != null)
+				return Mono.just(address + SUBJECT_SEPARATOR + subject);
+		}
+		return Mono.just(address);
+	}
+	
+	private String subject(final String token) {
+		final var parts = token.split("\\.");
+		if (parts.length < 2)
+			return null;
+		try {
+			return this.objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]))
+					.path("sub")
+					.asText(null);
+		}
+		catch (IllegalArgumentException | IOException e) {
+			return null;
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,72 @@
+package com.selimhorri.app.config.ratelimit;
+
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitConfig {
+	
+	private final RateLimitProperties rateLimitProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Bean
+	public TokenBucketRateLimiter tokenBucketRateLimiterBean(final ConfigurationService configurationService) {
+		final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+				.maximumSize(this.rateLimitProperties.getMaximumBuckets())
+				.expireAfter(new Expiry<String, TokenBucket>() {
+					@Override
+					public long expireAfterCreate(final String key, final TokenBucket bucket, final long currentTime) {
+						return bucket.nanosUntilIdle(currentTime);
+					}
+					@Override
+					public long expireAfterUpdate(final String key, final TokenBucket bucket, final long currentTime, 
+							final long currentDuration) {
+						return bucket.nanosUntilIdle(currentTime);
+					}
+					@Override
+					public long expireAfterRead(final String key, final TokenBucket bucket, final long currentTime, 
+							final long currentDuration) {
+						return bucket.nanosUntilIdle(currentTime);
+					}
+				})
+				.recordStats()
+				.build();
+		return new TokenBucketRateLimiter(configurationService, 
+				CaffeineCacheMetrics.monitor(this.meterRegistry, buckets, "rateLimitBuckets"), 
+				this.rateLimitProperties, this.meterRegistry);
+	}
+	
+	@Bean
+	public ClientKeyResolver clientKeyResolverBean(final ObjectMapper objectMapper) {
+		final RemoteAddressResolver remoteAddressResolver = (this.rateLimitProperties.getTrustedProxies() > 0) ? 
+				XForwardedRemoteAddressResolver.maxTrustedIndex(this.rateLimitProperties.getTrustedProxies()) : 
+				new RemoteAddressResolver() {};
+		return new ClientKeyResolver(remoteAddressResolver, objectMapper);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.gateway.rate-limit")
+@Data
+public class RateLimitProperties {
+	
+	private int replenishRate = 100;
+	private int burstCapacity = 200;
+	private long maximumBuckets = 100_000;
+	private int trustedProxies = 0;
+	private int subjectsPerAddress = 4;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,57 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is the theoretical arrival time of 
+ * the next conforming request, so consuming tokens is a single compare-and-set on one long.
+ */
+public final class TokenBucket {
+	
+	private final long emissionIntervalNanos;
+	private final long burstNanos;
+	private final AtomicLong theoreticalArrival;
+	
+	public TokenBucket(final int replenishRate, final int burstCapacity, final long now) {
+		this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / replenishRate;
+		this.burstNanos = this.emissionIntervalNanos * burstCapacity;
+		this.theoreticalArrival = new AtomicLong(now);
+	}
+	
+	/**
+	 * @return the tokens left after consuming, or {@code -(nanos until allowed) - 1} when denied
+	 */
+	public long tryConsume(final int tokens, final long now) {
+		while (true) {
+			final long arrival = this.theoreticalArrival.get();
+			final long next = Math.max(arrival, now) + this.emissionIntervalNanos * tokens;
+			final long allowedAt = next - this.burstNanos;
+			if (now < allowedAt)
+				return -(allowedAt - now) - 1;
+			if (this.theoreticalArrival.compareAndSet(arrival, next))
+				return (now - allowedAt) / this.emissionIntervalNanos;
+		}
+	}
+	
+	/**
+	 * Time after which the bucket is full again plus one full refill as grace, so an entry 
+	 * evicted on this deadline never hands a client more than a fresh bucket would.
+	 */
+	public long nanosUntilIdle(final long now) {
+		return Math.max(this.theoreticalArrival.get() - now, 0) + this.burstNanos;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
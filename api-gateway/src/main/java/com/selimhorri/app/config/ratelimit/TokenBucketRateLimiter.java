@@ -0,0 +1,115 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.route.RouteDefinitionRouteLocator;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.validation.annotation.Validated;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process replacement for RedisRateLimiter. Buckets are keyed by route and client and live in 
+ * a bounded Caffeine map whose expiry follows each bucket's refill time, so idle clients cost 
+ * nothing. Limits are per gateway instance. Keys narrowed by an (unverified) subject are also 
+ * charged against a shared bucket of their address sized for {@code subjectsPerAddress} clients, 
+ * so forged subjects cannot multiply the budget of a single caller.
+ */
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+	
+	private final Cache<String, TokenBucket> buckets;
+	private final Config defaultConfig;
+	private final int subjectsPerAddress;
+	private final MeterRegistry meterRegistry;
+	
+	public TokenBucketRateLimiter(final ConfigurationService configurationService, final Cache<String, TokenBucket> buckets, 
+			final RateLimitProperties rateLimitProperties, final MeterRegistry meterRegistry) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.buckets = buckets;
+		this.defaultConfig = new Config();
+		this.defaultConfig.setReplenishRate(rateLimitProperties.getReplenishRate());
+		this.defaultConfig.setBurstCapacity(rateLimitProperties.getBurstCapacity());
+		this.subjectsPerAddress = Math.max(1, rateLimitProperties.getSubjectsPerAddress());
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		final var config = this.getConfig().getOrDefault(routeId, 
+				this.getConfig().getOrDefault(RouteDefinitionRouteLocator.DEFAULT_FILTERS, this.defaultConfig));
+		final var now = System.nanoTime();
+		final var separator = id.indexOf(ClientKeyResolver.SUBJECT_SEPARATOR);
+		final var addressResult = (separator < 0) ? Long.MAX_VALUE : 
+				this.tryConsume(routeId + "|" + id.substring(0, separator) + "|*", config, this.subjectsPerAddress, now);
+		final var result = (addressResult < 0) ? addressResult : 
+				Math.min(this.tryConsume(routeId + "|" + id, config, 1, now), addressResult);
+		final var allowed = result >= 0;
+		this.meterRegistry.counter("gateway.rate.limit.requests", "route", routeId, "allowed", String.valueOf(allowed))
+				.increment();
+		return Mono.just(new Response(allowed, headers(config, result)));
+	}
+	
+	private long tryConsume(final String key, final Config config, final int clients, final long now) {
+		return this.buckets.get(key, k -> new TokenBucket(config.getReplenishRate() * clients, 
+						config.getBurstCapacity() * clients, now))
+				.tryConsume(config.getRequestedTokens(), now);
+	}
+	
+	private static Map<String, String> headers(final Config config, final long result) {
+		final var headers = new HashMap<String, String>();
+		headers.put(REMAINING_HEADER, String.valueOf(Math.max(result, 0)));
+		headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+		headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+		headers.put(REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()));
+		if (result < 0) {
+			final var waitNanos = -result - 1;
+			headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, 
+					TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))));
+		}
+		return headers;
+	}
+	
+	@Validated
+	@Data
+	public static class Config {
+		
+		@Min(1)
+		private int replenishRate;
+		
+		@Min(1)
+		private int burstCapacity;
+		
+		@Min(1)
+		private int requestedTokens = 1;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
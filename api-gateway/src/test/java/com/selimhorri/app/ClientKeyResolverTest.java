@@ -0,0 +1,91 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.RequestRateLimiterGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.ratelimit.ClientKeyResolver;
+import com.selimhorri.app.config.ratelimit.RateLimitProperties;
+import com.selimhorri.app.config.ratelimit.TokenBucket;
+import com.selimhorri.app.config.ratelimit.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ClientKeyResolverTest {
+
+	private ClientKeyResolver clientKeyResolver;
+
+	private GatewayFilter rateLimitFilter;
+
+	@BeforeEach
+	void setUp() {
+		RateLimitProperties rateLimitProperties = new RateLimitProperties();
+		rateLimitProperties.setReplenishRate(1);
+		rateLimitProperties.setBurstCapacity(1);
+		rateLimitProperties.setSubjectsPerAddress(2);
+		clientKeyResolver = new ClientKeyResolver(new RemoteAddressResolver() {}, new ObjectMapper());
+		TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(null, 
+				Caffeine.newBuilder().<String, TokenBucket>build(), rateLimitProperties, new SimpleMeterRegistry());
+		RequestRateLimiterGatewayFilterFactory.Config config = new RequestRateLimiterGatewayFilterFactory.Config();
+		config.setRouteId("PRODUCT-SERVICE");
+		rateLimitFilter = new RequestRateLimiterGatewayFilterFactory(rateLimiter, clientKeyResolver).apply(config);
+	}
+
+	@Test
+	@DisplayName("resolve - Debe acotar la direccion del cliente con el sujeto del token")
+	void testResolve_AddressNarrowedBySubject() {
+		assertEquals("ip:10.0.0.1|sub:alice", clientKeyResolver.resolve(exchange("10.0.0.1", "alice")).block());
+		assertEquals("ip:10.0.0.1", clientKeyResolver.resolve(exchange("10.0.0.1", null)).block());
+	}
+
+	@Test
+	@DisplayName("filter - Debe responder 429 al rotar sujetos falsificados desde una misma direccion")
+	void testFilter_ForgedSubjectsShareAddressBucket() {
+		MockServerWebExchange first = exchange("10.0.0.1", "forged-1");
+		MockServerWebExchange second = exchange("10.0.0.1", "forged-2");
+		MockServerWebExchange third = exchange("10.0.0.1", "forged-3");
+		MockServerWebExchange otherAddress = exchange("10.0.0.2", "forged-4");
+
+		rateLimitFilter.filter(first, e -> Mono.empty()).block();
+		rateLimitFilter.filter(second, e -> Mono.empty()).block();
+		rateLimitFilter.filter(third, e -> Mono.empty()).block();
+		rateLimitFilter.filter(otherAddress, e -> Mono.empty()).block();
+
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, first.getResponse().getStatusCode());
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, second.getResponse().getStatusCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, otherAddress.getResponse().getStatusCode());
+	}
+
+	private static MockServerWebExchange exchange(final String address, final String subject) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/product-service/api/products")
+				.remoteAddress(new InetSocketAddress(address, 40000));
+		if (subject != null)
+			request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token(subject));
+		return MockServerWebExchange.from(request);
+	}
+
+	private static String token(final String subject) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "." 
+				+ encoder.encodeToString(("{\"sub\":\"" + subject + "\"}").getBytes(StandardCharsets.UTF_8)) 
+				+ ".forged";
+	}
+
+}
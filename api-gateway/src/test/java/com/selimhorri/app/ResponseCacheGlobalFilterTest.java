@@ -0,0 +1,194 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.RequestRateLimiterGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.cache.CachedResponse;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+import com.selimhorri.app.config.filter.ResponseCacheGlobalFilter;
+import com.selimhorri.app.config.ratelimit.RateLimitProperties;
+import com.selimhorri.app.config.ratelimit.TokenBucket;
+import com.selimhorri.app.config.ratelimit.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ResponseCacheGlobalFilterTest {
+
+	private static final Route ROUTE = Route.builder()
+			.id("PRODUCT-SERVICE")
+			.uri(URI.create("lb://PRODUCT-SERVICE"))
+			.predicate(exchange -> true)
+			.build();
+
+	private final List<ServerHttpRequest> forwarded = new ArrayList<>();
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ResponseCacheGlobalFilter responseCacheGlobalFilter;
+
+	@BeforeEach
+	void setUp() {
+		ResponseCacheProperties responseCacheProperties = new ResponseCacheProperties();
+		responseCacheProperties.setRoutes(Set.of("PRODUCT-SERVICE"));
+		meterRegistry = new SimpleMeterRegistry();
+		responseCacheGlobalFilter = new ResponseCacheGlobalFilter(responseCacheProperties, 
+				Caffeine.newBuilder().<String, CachedResponse>build(), WebClient.create(), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("filter - Debe servir desde cache una respuesta fresca sin llamar al servicio")
+	void testFilter_FreshHit() {
+		GatewayFilterChain chain = upstream(HttpStatus.OK, "public, max-age=60");
+
+		MockServerWebExchange first = exchange(MockServerHttpRequest.get("/product-service/api/products"));
+		responseCacheGlobalFilter.filter(first, chain).block();
+		MockServerWebExchange second = exchange(MockServerHttpRequest.get("/product-service/api/products"));
+		responseCacheGlobalFilter.filter(second, chain).block();
+
+		assertEquals(1, forwarded.size());
+		assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+		assertEquals("[]", second.getResponse().getBodyAsString().block());
+		assertEquals(0.5, meterRegistry.get("gateway.response.cache.hit.ratio").gauge().value());
+	}
+
+	@Test
+	@DisplayName("filter - Debe revalidar con If-None-Match y servir el cuerpo guardado ante un 304")
+	void testFilter_Revalidated() {
+		responseCacheGlobalFilter.filter(exchange(MockServerHttpRequest.get("/product-service/api/products")), 
+				upstream(HttpStatus.OK, "public, max-age=0")).block();
+		MockServerWebExchange second = exchange(MockServerHttpRequest.get("/product-service/api/products"));
+		responseCacheGlobalFilter.filter(second, upstream(HttpStatus.NOT_MODIFIED, "public, max-age=0")).block();
+
+		assertEquals(List.of("\"v1\""), forwarded.get(1).getHeaders().getIfNoneMatch());
+		assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+		assertEquals("REVALIDATED", second.getResponse().getHeaders().getFirst("X-Cache"));
+		assertEquals("[]", second.getResponse().getBodyAsString().block());
+	}
+
+	@Test
+	@DisplayName("filter - No debe guardar respuestas privadas ni peticiones autenticadas")
+	void testFilter_NotShared() {
+		GatewayFilterChain privateChain = upstream(HttpStatus.OK, "private, max-age=60");
+		responseCacheGlobalFilter.filter(exchange(MockServerHttpRequest.get("/product-service/api/products")), privateChain).block();
+		responseCacheGlobalFilter.filter(exchange(MockServerHttpRequest.get("/product-service/api/products")), privateChain).block();
+
+		GatewayFilterChain publicChain = upstream(HttpStatus.OK, "public, max-age=60");
+		responseCacheGlobalFilter.filter(exchange(MockServerHttpRequest.get("/product-service/api/products/1")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer token")), publicChain).block();
+		responseCacheGlobalFilter.filter(exchange(MockServerHttpRequest.get("/product-service/api/products/1")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer token")), publicChain).block();
+
+		assertEquals(4, forwarded.size());
+	}
+
+	@Test
+	@DisplayName("filter - Debe compartir la respuesta en curso entre peticiones identicas concurrentes")
+	void testFilter_Coalesced() {
+		Sinks.Empty<Void> gate = Sinks.empty();
+		GatewayFilterChain chain = upstream(HttpStatus.OK, "public, max-age=0");
+		GatewayFilterChain gated = exchange -> gate.asMono().then(Mono.defer(() -> chain.filter(exchange)));
+
+		MockServerWebExchange leader = exchange(MockServerHttpRequest.get("/product-service/api/products/1"));
+		CompletableFuture<Void> leading = responseCacheGlobalFilter.filter(leader, gated).toFuture();
+		MockServerWebExchange follower = exchange(MockServerHttpRequest.get("/product-service/api/products/1"));
+		CompletableFuture<Void> following = responseCacheGlobalFilter.filter(follower, gated).toFuture();
+		gate.tryEmitEmpty();
+		leading.join();
+		following.join();
+
+		assertEquals(1, forwarded.size());
+		assertEquals("MISS", leader.getResponse().getHeaders().getFirst("X-Cache"));
+		assertEquals("COALESCED", follower.getResponse().getHeaders().getFirst("X-Cache"));
+		assertEquals("[]", follower.getResponse().getBodyAsString().block());
+	}
+
+	@Test
+	@DisplayName("filter - Debe ir al servicio cuando la respuesta en curso no se puede compartir")
+	void testFilter_CoalescedNotShared() {
+		Sinks.Empty<Void> gate = Sinks.empty();
+		GatewayFilterChain chain = upstream(HttpStatus.OK, "private, max-age=60");
+		GatewayFilterChain gated = exchange -> gate.asMono().then(Mono.defer(() -> chain.filter(exchange)));
+
+		CompletableFuture<Void> leading = responseCacheGlobalFilter.filter(
+				exchange(MockServerHttpRequest.get("/product-service/api/products/1")), gated).toFuture();
+		MockServerWebExchange follower = exchange(MockServerHttpRequest.get("/product-service/api/products/1"));
+		CompletableFuture<Void> following = responseCacheGlobalFilter.filter(follower, gated).toFuture();
+		gate.tryEmitEmpty();
+		leading.join();
+		following.join();
+
+		assertEquals(2, forwarded.size());
+		assertNull(follower.getResponse().getHeaders().getFirst("X-Cache"));
+	}
+
+	@Test
+	@DisplayName("filter - Debe servir aciertos de cache sin consumir el limite de peticiones de la ruta")
+	void testFilter_CachedResponsesExemptFromRateLimit() {
+		RateLimitProperties rateLimitProperties = new RateLimitProperties();
+		rateLimitProperties.setReplenishRate(1);
+		rateLimitProperties.setBurstCapacity(1);
+		TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(null, 
+				Caffeine.newBuilder().<String, TokenBucket>build(), rateLimitProperties, new SimpleMeterRegistry());
+		GatewayFilter rateLimitFilter = new RequestRateLimiterGatewayFilterFactory(rateLimiter, 
+				exchange -> Mono.just("ip:10.0.0.1")).apply(new RequestRateLimiterGatewayFilterFactory.Config());
+		GatewayFilterChain upstream = upstream(HttpStatus.OK, "public, max-age=60");
+		GatewayFilterChain chain = exchange -> rateLimitFilter.filter(exchange, upstream);
+
+		MockServerWebExchange first = exchange(MockServerHttpRequest.get("/product-service/api/products"));
+		responseCacheGlobalFilter.filter(first, chain).block();
+		MockServerWebExchange cachedHit = exchange(MockServerHttpRequest.get("/product-service/api/products"));
+		responseCacheGlobalFilter.filter(cachedHit, chain).block();
+		MockServerWebExchange limited = exchange(MockServerHttpRequest.get("/product-service/api/categories"));
+		responseCacheGlobalFilter.filter(limited, chain).block();
+
+		// route filters are ordered from 1 by their position, so the cache always sees the request first
+		assertTrue(responseCacheGlobalFilter.getOrder() < 1);
+		assertEquals("HIT", cachedHit.getResponse().getHeaders().getFirst("X-Cache"));
+		assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, cachedHit.getResponse().getStatusCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getResponse().getStatusCode());
+		assertEquals(1, forwarded.size());
+	}
+
+	private MockServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+		return exchange;
+	}
+
+	private GatewayFilterChain upstream(final HttpStatus status, final String cacheControl) {
+		return (ServerWebExchange exchange) -> {
+			forwarded.add(exchange.getRequest());
+			exchange.getResponse().setStatusCode(status);
+			exchange.getResponse().getHeaders().setETag("\"v1\"");
+			exchange.getResponse().getHeaders().setCacheControl(cacheControl);
+			byte[] body = (status == HttpStatus.OK) ? "[]".getBytes(StandardCharsets.UTF_8) : new byte[0];
+			return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+		};
+	}
+
+}
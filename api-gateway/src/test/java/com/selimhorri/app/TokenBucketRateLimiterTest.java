@@ -0,0 +1,68 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.http.HttpHeaders;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.ratelimit.RateLimitProperties;
+import com.selimhorri.app.config.ratelimit.TokenBucket;
+import com.selimhorri.app.config.ratelimit.TokenBucketRateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBucketRateLimiterTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	@DisplayName("tryConsume - Debe permitir la rafaga completa y rechazar el siguiente token")
+	void testTryConsume_Burst() {
+		TokenBucket bucket = new TokenBucket(10, 20, 0);
+
+		for (int i = 19; i >= 0; i--)
+			assertEquals(i, bucket.tryConsume(1, 0));
+
+		long denied = bucket.tryConsume(1, 0);
+		assertTrue(denied < 0);
+		assertEquals(SECOND / 10, -denied - 1);
+	}
+
+	@Test
+	@DisplayName("tryConsume - Debe reponer tokens a la tasa configurada sin superar la capacidad")
+	void testTryConsume_Replenish() {
+		TokenBucket bucket = new TokenBucket(10, 20, 0);
+		bucket.tryConsume(20, 0);
+
+		assertEquals(4, bucket.tryConsume(1, SECOND / 2));
+		assertEquals(19, bucket.tryConsume(1, 60 * SECOND));
+		assertEquals(2 * SECOND + SECOND / 10, bucket.nanosUntilIdle(60 * SECOND));
+	}
+
+	@Test
+	@DisplayName("isAllowed - Debe devolver cabeceras X-RateLimit y Retry-After al rechazar")
+	void testIsAllowed_Headers() {
+		RateLimitProperties rateLimitProperties = new RateLimitProperties();
+		rateLimitProperties.setReplenishRate(1);
+		rateLimitProperties.setBurstCapacity(1);
+		TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(null, 
+				Caffeine.newBuilder().<String, TokenBucket>build(), rateLimitProperties, new SimpleMeterRegistry());
+
+		Response allowed = rateLimiter.isAllowed("PRODUCT-SERVICE", "ip:10.0.0.1").block();
+		Response denied = rateLimiter.isAllowed("PRODUCT-SERVICE", "ip:10.0.0.1").block();
+		Response otherClient = rateLimiter.isAllowed("PRODUCT-SERVICE", "ip:10.0.0.2").block();
+
+		assertTrue(allowed.isAllowed());
+		assertEquals("0", allowed.getHeaders().get(TokenBucketRateLimiter.REMAINING_HEADER));
+		assertEquals("1", allowed.getHeaders().get(TokenBucketRateLimiter.BURST_CAPACITY_HEADER));
+		assertFalse(denied.isAllowed());
+		assertEquals("1", denied.getHeaders().get(HttpHeaders.RETRY_AFTER));
+		assertTrue(otherClient.isAllowed());
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.service.RemoteClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class RemoteCacheConfig {
+	
+	private final RemoteCacheProperties remoteCacheProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Bean
+	public AsyncLoadingCache<Integer, UserDto> userDtoCacheBean(final RemoteClientService remoteClientService) {
+		final var cache = this.caffeine()
+				.<Integer, UserDto>buildAsync((userId, executor) -> remoteClientService.get(AppConstant.DiscoveredDomainsApi
+						.USER_SERVICE_API_URL + "/" + userId, UserDto.class).toFuture());
+		CaffeineCacheMetrics.monitor(this.meterRegistry, cache.synchronous(), AppConstant.RemoteCache.USERS);
+		return cache;
+	}
+	
+	@Bean
+	public AsyncLoadingCache<Integer, ProductDto> productDtoCacheBean(final RemoteClientService remoteClientService) {
+		final var cache = this.caffeine()
+				.<Integer, ProductDto>buildAsync((productId, executor) -> remoteClientService.get(AppConstant.DiscoveredDomainsApi
+						.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class).toFuture());
+		CaffeineCacheMetrics.monitor(this.meterRegistry, cache.synchronous(), AppConstant.RemoteCache.PRODUCTS);
+		return cache;
+	}
+	
+	private Caffeine<Object, Object> caffeine() {
+		return Caffeine.newBuilder()
+				.maximumSize(this.remoteCacheProperties.getMaximumSize())
+				.expireAfterWrite(this.remoteCacheProperties.getExpireAfterWrite())
+				.refreshAfterWrite(this.remoteCacheProperties.getRefreshAfterWrite())
+				.recordStats();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache.remote")
+@Data
+public class RemoteCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration expireAfterWrite = Duration.ofMinutes(10);
+	private Duration refreshAfterWrite = Duration.ofMinutes(2);
+	
+}
@@ -0,0 +1,48 @@
+package com.selimhorri.app.config.mapper;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * Serves application/x-jackson-smile to internal callers that ask for it. The converter 
+ * stays behind the JSON one so browsers and wildcard Accept headers keep getting JSON, 
+ * and shared string values collapse the category fields repeated in product listings.
+ */
+@Configuration
+public class SmileConfig implements WebMvcConfigurer {
+	
+	@Override
+	public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+		converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+		converters.add(new MappingJackson2SmileHttpMessageConverter(this.smileMapper()));
+	}
+	
+	public ObjectMapper smileMapper() {
+		return SmileMapper.builder(SmileFactory.builder()
+						.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+						.build())
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
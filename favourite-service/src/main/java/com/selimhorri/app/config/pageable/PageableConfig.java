@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.pageable;
+
+import org.springframework.boot.autoconfigure.data.web.PageableHandlerMethodArgumentResolverCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+
+@Configuration
+public class PageableConfig {
+	
+	@Bean
+	public PageableHandlerMethodArgumentResolverCustomizer pageableResolverCustomizerBean() {
+		return resolver -> resolver.setFallbackPageable(Pageable.unpaged());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
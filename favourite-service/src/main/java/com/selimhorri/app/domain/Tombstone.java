@@ -0,0 +1,55 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "tombstones")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class Tombstone implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "tombstone_id", unique = true, nullable = false, updatable = false)
+	private Long tombstoneId;
+	
+	@Column(name = "entity_type", nullable = false, updatable = false)
+	private String entityType;
+	
+	@Column(name = "entity_key", nullable = false, updatable = false)
+	private String entityKey;
+	
+	@Column(name = "deleted_at", nullable = false, updatable = false)
+	private Instant deletedAt;
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
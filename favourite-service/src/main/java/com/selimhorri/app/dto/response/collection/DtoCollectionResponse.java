@@ -1,6 +1,13 @@
 package com.selimhorri.app.dto.response.collection;
 
 import java.util.Collection;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +22,54 @@ public class DtoCollectionResponse<T> {
 	
 	private Collection<T> collection;
 	
+	@JsonInclude(Include.NON_NULL)
+	private Integer page;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Integer size;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Long totalElements;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Integer totalPages;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Boolean hasNext;
+	
+	@JsonInclude(Include.NON_NULL)
+	private String nextCursor;
+	
+	public DtoCollectionResponse(final Collection<T> collection) {
+		this.collection = collection;
+	}
+	
+	public static <T> DtoCollectionResponse<T> of(final Slice<T> slice) {
+		final var response = DtoCollectionResponse.<T>builder()
+				.collection(slice.getContent())
+				.page(slice.getNumber())
+				.size(slice.getSize())
+				.hasNext(slice.hasNext())
+				.build();
+		if (slice instanceof Page) {
+			response.setTotalElements(((Page<T>) slice).getTotalElements());
+			response.setTotalPages(((Page<T>) slice).getTotalPages());
+		}
+		return response;
+	}
+	
+	public static <T> DtoCollectionResponse<T> of(final Slice<T> slice, 
+			final Function<T, String> cursor, final Long totalElements) {
+		return DtoCollectionResponse.<T>builder()
+				.collection(slice.getContent())
+				.size(slice.getSize())
+				.totalElements(totalElements)
+				.hasNext(slice.hasNext())
+				.nextCursor(slice.hasNext() ? 
+						cursor.apply(slice.getContent().get(slice.getNumberOfElements() - 1)) : null)
+				.build();
+	}
+	
 }
 
 
@@ -0,0 +1,9 @@
+package com.selimhorri.app.repository;
+
+import java.util.List;
+
+public interface BatchInsertRepository<T> {
+	
+	<S extends T> List<S> insertAll(final Iterable<S> entities);
+	
+}
@@ -0,0 +1,44 @@
+package com.selimhorri.app.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import com.selimhorri.app.constant.AppConstant;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+	
+	private final EntityManager entityManager;
+	
+	@Override
+	@Transactional
+	public <S extends T> List<S> insertAll(final Iterable<S> entities) {
+		final var inserted = new ArrayList<S>();
+		for (final S entity : entities) {
+			this.entityManager.persist(entity);
+			inserted.add(entity);
+			if (inserted.size() % AppConstant.JDBC_BATCH_SIZE == 0) {
+				this.entityManager.flush();
+				this.entityManager.clear();
+			}
+		}
+		return inserted;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
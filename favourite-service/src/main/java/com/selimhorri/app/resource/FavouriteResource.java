@@ -1,11 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,10 +17,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.FavouriteService;
@@ -34,9 +39,22 @@ public class FavouriteResource {
 	private final FavouriteService favouriteService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll(
+			final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "count", defaultValue = "true") final boolean count) {
 		log.info("*** FavouriteDto List, controller; fetch all favourites *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
+		if (pageable.isUnpaged() && after == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
+		return ResponseEntity.ok(this.favouriteService.findAll(pageable, after, count));
+	}
+	
+	@GetMapping("/changes")
+	public ResponseEntity<DtoCollectionResponse<ChangeDto<FavouriteDto>>> findChanges(
+			@RequestParam(name = "since", required = false) final Instant since, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** FavouriteDto List, resource; fetch favourite changes *");
+		return ResponseEntity.ok(this.favouriteService.findChanges(since != null ? since : Instant.EPOCH, limit));
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
@@ -68,6 +86,15 @@ public class FavouriteResource {
 		return ResponseEntity.ok(this.favouriteService.save(favouriteDto));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<@Valid FavouriteDto> favouriteDtos) {
+		log.info("*** FavouriteDto List, resource; save favourites batch *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.saveAll(favouriteDtos)));
+	}
+	
 	@PutMapping
 	public ResponseEntity<FavouriteDto> update(
 			@RequestBody 
@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.CacheInvalidationDto;
+
+public interface CacheInvalidationService {
+	
+	void invalidate(final CacheInvalidationDto cacheInvalidationDto);
+	
+}
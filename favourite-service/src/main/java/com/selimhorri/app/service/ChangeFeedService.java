@@ -0,0 +1,31 @@
+package com.selimhorri.app.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.domain.AbstractMappedEntity;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+public interface ChangeFeedService {
+	
+	void recordDeletion(final String entityType, final String entityKey);
+	<E extends AbstractMappedEntity, D> DtoCollectionResponse<ChangeDto<D>> findChanges(final String entityType, 
+			final Instant since, final Integer limit, final ChangeSource<E> changeSource, 
+			final Function<E, D> upsertMapper, final Function<String, D> tombstoneMapper);
+	int purge();
+	
+	/**
+	 * Rows whose {@code updated_at} lies in {@code (since, until]}, ordered by {@code updated_at} then id.
+	 */
+	@FunctionalInterface
+	interface ChangeSource<E> {
+		
+		List<E> findChanged(final Instant since, final Instant until, final Pageable pageable);
+		
+	}
+	
+}
@@ -1,15 +1,23 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
 import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface FavouriteService {
 	
 	List<FavouriteDto> findAll();
+	DtoCollectionResponse<FavouriteDto> findAll(final Pageable pageable, final String after, final boolean withCount);
+	DtoCollectionResponse<ChangeDto<FavouriteDto>> findChanges(final Instant since, final Integer limit);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
+	List<FavouriteDto> saveAll(final List<FavouriteDto> favouriteDtos);
 	FavouriteDto update(final FavouriteDto favouriteDto);
 	void deleteById(final FavouriteId favouriteId);
 	
@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+import reactor.core.publisher.Mono;
+
+public interface RemoteClientService {
+	
+	<T> Mono<T> get(final String uri, final Class<T> type);
+	
+}
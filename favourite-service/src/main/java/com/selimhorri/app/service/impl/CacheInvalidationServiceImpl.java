@@ -0,0 +1,60 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.service.CacheInvalidationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+	
+	private final AsyncLoadingCache<Integer, UserDto> userDtoCache;
+	private final AsyncLoadingCache<Integer, ProductDto> productDtoCache;
+	
+	@Override
+	public void invalidate(final CacheInvalidationDto cacheInvalidationDto) {
+		log.info("*** Void, service; invalidate remote cache entries *");
+		this.findCache(cacheInvalidationDto.getCacheName()).ifPresentOrElse(cache -> {
+			if (cacheInvalidationDto.getIds() == null || cacheInvalidationDto.getIds().isEmpty())
+				cache.invalidateAll();
+			else
+				cache.invalidateAll(cacheInvalidationDto.getIds());
+		}, () -> log.warn("*** Unknown remote cache: {} *", cacheInvalidationDto.getCacheName()));
+	}
+	
+	private Optional<Cache<Integer, ?>> findCache(final String cacheName) {
+		switch (cacheName) {
+			case AppConstant.RemoteCache.USERS:
+				return Optional.of(this.userDtoCache.synchronous());
+			case AppConstant.RemoteCache.PRODUCTS:
+				return Optional.of(this.productDtoCache.synchronous());
+			default:
+				return Optional.empty();
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,25 +1,42 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.selimhorri.app.config.client.EnrichmentProperties;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
+import com.selimhorri.app.service.ChangeFeedService;
 import com.selimhorri.app.service.FavouriteService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @Transactional
@@ -28,25 +45,55 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
-	private final RestTemplate restTemplate;
+	private final AsyncLoadingCache<Integer, UserDto> userDtoCache;
+	private final AsyncLoadingCache<Integer, ProductDto> productDtoCache;
+	private final EnrichmentProperties enrichmentProperties;
+	private final ChangeFeedService changeFeedService;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<FavouriteDto> findAll(final Pageable pageable, final String after, final boolean withCount) {
+		log.info("*** FavouriteDto List, service; fetch favourites page *");
+		if (after != null) {
+			final var cursor = this.parseCursor(after);
+			final var slice = this.favouriteRepository
+					.findAllAfter(cursor.getUserId(), cursor.getProductId(), cursor.getLikeDate(), PageRequest.of(0, 
+							pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+							Sort.by("userId", "productId", "likeDate")))
+					.map(FavouriteMappingHelper::map);
+			this.enrich(slice.getContent());
+			return DtoCollectionResponse.of(slice, 
+					f -> cursor(f.getUserId(), f.getProductId(), f.getLikeDate()), 
+					withCount ? this.favouriteRepository.count() : null);
+		}
+		final var slice = (withCount ? this.favouriteRepository.findAll(pageable) 
+				: this.favouriteRepository.findAllBy(pageable))
+				.map(FavouriteMappingHelper::map);
+		this.enrich(slice.getContent());
+		return DtoCollectionResponse.of(slice);
+	}
+	
+	@Override
+	public DtoCollectionResponse<ChangeDto<FavouriteDto>> findChanges(final Instant since, final Integer limit) {
+		log.info("*** FavouriteDto List, service; fetch favourite changes *");
+		return this.changeFeedService.findChanges(AppConstant.ChangeFeed.FAVOURITES, since, limit, 
+				this.favouriteRepository::findChanged, FavouriteMappingHelper::map, key -> {
+					final var favouriteId = this.parseCursor(key);
+					return FavouriteDto.builder()
+							.userId(favouriteId.getUserId())
+							.productId(favouriteId.getProductId())
+							.likeDate(favouriteId.getLikeDate())
+							.build();
+				});
 	}
 	
 	@Override
@@ -54,15 +101,7 @@ public class FavouriteServiceImpl implements FavouriteService {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
-				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-					return f;
-				})
+				.map(f -> this.enrich(List.of(f)).get(0))
 				.orElseThrow(() -> new FavouriteNotFoundException(
 						String.format("Favourite with id: [%s] not found!", favouriteId)));
 	}
@@ -73,6 +112,21 @@ public class FavouriteServiceImpl implements FavouriteService {
 				.save(FavouriteMappingHelper.map(favouriteDto)));
 	}
 	
+	@Override
+	public List<FavouriteDto> saveAll(final List<FavouriteDto> favouriteDtos) {
+		log.info("*** FavouriteDto List, service; save favourites batch *");
+		if (favouriteDtos.size() > AppConstant.MAX_BATCH_WRITE_SIZE)
+			throw new IllegalStateException(String.format("Batch of %d favourites exceeds the limit of %d", 
+					favouriteDtos.size(), AppConstant.MAX_BATCH_WRITE_SIZE));
+		return this.favouriteRepository.insertAll(favouriteDtos
+				.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toList()))
+				.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public FavouriteDto update(final FavouriteDto favouriteDto) {
 		return FavouriteMappingHelper.map(this.favouriteRepository
@@ -82,6 +136,60 @@ public class FavouriteServiceImpl implements FavouriteService {
 	@Override
 	public void deleteById(final FavouriteId favouriteId) {
 		this.favouriteRepository.deleteById(favouriteId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.FAVOURITES, 
+				cursor(favouriteId.getUserId(), favouriteId.getProductId(), favouriteId.getLikeDate()));
+	}
+	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		
+		Mono.zip(
+				this.fetchAll(favouriteDtos.stream()
+						.map(FavouriteDto::getUserId)
+						.filter(Objects::nonNull)
+						.collect(Collectors.toSet()), this.userDtoCache, AppConstant.RemoteCache.USERS), 
+				this.fetchAll(favouriteDtos.stream()
+						.map(FavouriteDto::getProductId)
+						.filter(Objects::nonNull)
+						.collect(Collectors.toSet()), this.productDtoCache, AppConstant.RemoteCache.PRODUCTS))
+				.doOnNext(usersAndProducts -> favouriteDtos.forEach(f -> {
+					Optional.ofNullable(usersAndProducts.getT1().get(f.getUserId()))
+							.ifPresent(f::setUserDto);
+					Optional.ofNullable(usersAndProducts.getT2().get(f.getProductId()))
+							.ifPresent(f::setProductDto);
+				}))
+				.block();
+		
+		return favouriteDtos;
+	}
+	
+	private <T> Mono<Map<Integer, T>> fetchAll(final Set<Integer> ids, 
+			final AsyncLoadingCache<Integer, T> cache, final String cacheName) {
+		return Flux.fromIterable(ids)
+				.flatMap(id -> Mono.fromFuture(cache.get(id).copy())
+						.timeout(this.enrichmentProperties.getTimeout())
+						.map(dto -> Map.entry(id, dto))
+						.onErrorResume(e -> {
+							log.warn("*** {}, service; unable to fetch id {}: {} *", cacheName, id, e.toString());
+							return Mono.empty();
+						}), this.enrichmentProperties.getParallelism())
+				.collectMap(Map.Entry::getKey, Map.Entry::getValue);
+	}
+	
+	private static String cursor(final Integer userId, final Integer productId, final LocalDateTime likeDate) {
+		return userId + "," + productId + "," + likeDate.format(DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT));
+	}
+	
+	private FavouriteId parseCursor(final String after) {
+		final var parts = after.split(",");
+		try {
+			if (parts.length == 3)
+				return new FavouriteId(Integer.parseInt(parts[0].strip()), Integer.parseInt(parts[1].strip()), 
+						LocalDateTime.parse(parts[2].strip(), DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT)));
+		}
+		catch (NumberFormatException | DateTimeParseException e) {
+			log.warn("*** Invalid favourite cursor: {} *", after);
+		}
+		throw new IllegalStateException(String.format("Invalid cursor: %s, expected <userId>,<productId>,<likeDate>", after));
 	}
 	
 	
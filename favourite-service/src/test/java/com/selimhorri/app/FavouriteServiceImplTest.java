@@ -0,0 +1,145 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.client.EnrichmentProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.repository.FavouriteRepository;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.RemoteClientService;
+import com.selimhorri.app.service.impl.FavouriteServiceImpl;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteServiceImplTest {
+
+	@Mock
+	private FavouriteRepository favouriteRepository;
+
+	@Mock
+	private RemoteClientService remoteClientService;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
+	private FavouriteServiceImpl favouriteService;
+
+	@BeforeEach
+	void setUp() {
+		final var enrichmentProperties = new EnrichmentProperties();
+		enrichmentProperties.setParallelism(4);
+		enrichmentProperties.setTimeout(Duration.ofSeconds(1));
+		favouriteService = new FavouriteServiceImpl(favouriteRepository,
+				Caffeine.newBuilder().<Integer, UserDto>buildAsync((userId, executor) -> remoteClientService.get(
+						AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/" + userId, UserDto.class).toFuture()),
+				Caffeine.newBuilder().<Integer, ProductDto>buildAsync((productId, executor) -> remoteClientService.get(
+						AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class).toFuture()),
+				enrichmentProperties, changeFeedService);
+	}
+
+	@Test
+	@DisplayName("findAll - Debe consultar cada usuario y producto una sola vez")
+	void testFindAll_DedupedLookups() {
+		final var likeDate = LocalDateTime.now();
+		when(favouriteRepository.findAll()).thenReturn(List.of(
+				Favourite.builder().userId(1).productId(1).likeDate(likeDate).build(),
+				Favourite.builder().userId(1).productId(2).likeDate(likeDate).build(),
+				Favourite.builder().userId(2).productId(1).likeDate(likeDate).build()));
+		when(remoteClientService.get(anyString(), eq(UserDto.class)))
+				.thenAnswer(i -> Mono.just(UserDto.builder().userId(idOf(i.getArgument(0))).build()));
+		when(remoteClientService.get(anyString(), eq(ProductDto.class)))
+				.thenAnswer(i -> Mono.just(ProductDto.builder().productId(idOf(i.getArgument(0))).productTitle("Laptop").build()));
+
+		List<FavouriteDto> result = favouriteService.findAll();
+
+		assertEquals(3, result.size());
+		assertEquals("Laptop", result.get(0).getProductDto().getProductTitle());
+		assertEquals(2, result.get(2).getUserDto().getUserId());
+		verify(remoteClientService, times(2)).get(anyString(), eq(UserDto.class));
+		verify(remoteClientService, times(2)).get(anyString(), eq(ProductDto.class));
+	}
+
+	@Test
+	@DisplayName("findAll - Debe conservar el id cuando una consulta remota falla")
+	void testFindAll_FailedLookupFallsBack() {
+		when(favouriteRepository.findAll()).thenReturn(List.of(
+				Favourite.builder().userId(1).productId(1).likeDate(LocalDateTime.now()).build()));
+		when(remoteClientService.get(anyString(), eq(UserDto.class)))
+				.thenReturn(Mono.error(WebClientResponseException.create(503, "user-service down", null, null, null)));
+		when(remoteClientService.get(anyString(), eq(ProductDto.class)))
+				.thenReturn(Mono.just(ProductDto.builder().productId(1).productTitle("Laptop").build()));
+
+		List<FavouriteDto> result = favouriteService.findAll();
+
+		assertEquals(1, result.get(0).getUserDto().getUserId());
+		assertNull(result.get(0).getUserDto().getFirstName());
+		assertEquals("Laptop", result.get(0).getProductDto().getProductTitle());
+	}
+
+	@Test
+	@DisplayName("saveAll - Debe insertar el lote con una sola llamada al repositorio")
+	void testSaveAll_SingleRepositoryCall() {
+		final var likeDate = LocalDateTime.now();
+		final var favourites = List.of(
+				Favourite.builder().userId(1).productId(1).likeDate(likeDate).build(),
+				Favourite.builder().userId(1).productId(2).likeDate(likeDate).build());
+		when(favouriteRepository.insertAll(anyIterable())).thenReturn(favourites);
+
+		List<FavouriteDto> result = favouriteService.saveAll(List.of(
+				FavouriteDto.builder().userId(1).productId(1).likeDate(likeDate).build(),
+				FavouriteDto.builder().userId(1).productId(2).likeDate(likeDate).build()));
+
+		assertEquals(2, result.size());
+		assertEquals(2, result.get(1).getProductId());
+		verify(favouriteRepository, times(1)).insertAll(anyIterable());
+		verify(favouriteRepository, never()).save(any(Favourite.class));
+	}
+
+	@Test
+	@DisplayName("saveAll - Debe rechazar lotes que superan el limite")
+	void testSaveAll_OversizedBatch() {
+		final var favouriteDto = FavouriteDto.builder().userId(1).productId(1).likeDate(LocalDateTime.now()).build();
+
+		assertThrows(IllegalStateException.class, () -> favouriteService
+				.saveAll(Collections.nCopies(AppConstant.MAX_BATCH_WRITE_SIZE + 1, favouriteDto)));
+		verifyNoInteractions(favouriteRepository);
+	}
+
+	private static Integer idOf(final String url) {
+		return Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+	}
+
+	@Test
+	@DisplayName("deleteById - Debe registrar el tombstone con la clave en formato de cursor")
+	void testDeleteById_RecordsTombstoneWithCursorKey() {
+		final var favouriteId = new FavouriteId(1, 2, LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123456000));
+
+		favouriteService.deleteById(favouriteId);
+
+		verify(favouriteRepository, times(1)).deleteById(favouriteId);
+		verify(changeFeedService, times(1)).recordDeletion(AppConstant.ChangeFeed.FAVOURITES, "1,2,17-05-2024__10:30:15:123456");
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.selimhorri.app.config.client.WebClientProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.service.impl.RemoteClientServiceImpl;
+
+import reactor.core.publisher.Mono;
+
+class RemoteClientServiceImplTest {
+
+	private static final String PRODUCT_URI = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/1";
+
+	private final AtomicInteger exchanges = new AtomicInteger();
+
+	@Test
+	@DisplayName("get - Debe compartir una sola llamada entre consultas identicas concurrentes")
+	void testGet_CoalescesConcurrentLookups() {
+		final var remoteClientService = remoteClientService(HttpStatus.OK);
+
+		final var results = Mono.zip(remoteClientService.get(PRODUCT_URI, String.class), 
+				remoteClientService.get(PRODUCT_URI, String.class)).block();
+
+		assertEquals("product", results.getT1());
+		assertEquals("product", results.getT2());
+		assertEquals(1, exchanges.get());
+		assertTrue(inFlight(remoteClientService).isEmpty());
+	}
+
+	@Test
+	@DisplayName("get - No debe compartir un error con las consultas posteriores")
+	void testGet_DoesNotKeepFailure() {
+		final var remoteClientService = remoteClientService(HttpStatus.NOT_FOUND);
+
+		assertThrows(WebClientResponseException.NotFound.class, () -> Mono.zip(
+				remoteClientService.get(PRODUCT_URI, String.class), 
+				remoteClientService.get(PRODUCT_URI, String.class)).block());
+		assertEquals(1, exchanges.get());
+		assertTrue(inFlight(remoteClientService).isEmpty());
+
+		assertThrows(WebClientResponseException.NotFound.class, () -> remoteClientService.get(PRODUCT_URI, String.class).block());
+		assertEquals(2, exchanges.get());
+	}
+
+	private RemoteClientServiceImpl remoteClientService(final HttpStatus status) {
+		return new RemoteClientServiceImpl(WebClient.builder()
+				.exchangeFunction(request -> {
+					exchanges.incrementAndGet();
+					return Mono.delay(Duration.ofMillis(100))
+							.map(tick -> ClientResponse.create(status)
+									.header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+									.body("product")
+									.build());
+				})
+				.build(), new WebClientProperties());
+	}
+
+	private static Map<?, ?> inFlight(final RemoteClientServiceImpl remoteClientService) {
+		return (Map<?, ?>) ReflectionTestUtils.getField(remoteClientService, "inFlight");
+	}
+}
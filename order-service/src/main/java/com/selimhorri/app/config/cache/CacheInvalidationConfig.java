@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.cache;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.impl.CacheInvalidationPublisherImpl;
+
+@Configuration
+public class CacheInvalidationConfig {
+	
+	@Bean
+	public CacheInvalidationPublisher cacheInvalidationPublisherBean(final DiscoveryClient discoveryClient, 
+			final CacheInvalidationProperties cacheInvalidationProperties, 
+			final RestTemplateBuilder restTemplateBuilder, final CloseableHttpClient httpClient) {
+		return new CacheInvalidationPublisherImpl(discoveryClient, cacheInvalidationProperties, restTemplateBuilder
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+				.setConnectTimeout(cacheInvalidationProperties.getTimeout())
+				.setReadTimeout(cacheInvalidationProperties.getTimeout())
+				.build());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
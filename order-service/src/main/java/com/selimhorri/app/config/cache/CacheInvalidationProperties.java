@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+@Data
+public class CacheInvalidationProperties {
+	
+	private List<String> subscribers = new ArrayList<>();
+	private Duration timeout = Duration.ofSeconds(2);
+	
+}
@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.UserDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class RemoteCacheConfig {
+	
+	private final RemoteCacheProperties remoteCacheProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Bean
+	public LoadingCache<Integer, UserDto> userDtoCacheBean(final RestTemplate restTemplate) {
+		return CaffeineCacheMetrics.monitor(this.meterRegistry, this.caffeine()
+				.<Integer, UserDto>build(userId -> restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.USER_SERVICE_API_URL + "/" + userId, UserDto.class)), 
+				AppConstant.RemoteCache.USERS);
+	}
+	
+	private Caffeine<Object, Object> caffeine() {
+		return Caffeine.newBuilder()
+				.maximumSize(this.remoteCacheProperties.getMaximumSize())
+				.expireAfterWrite(this.remoteCacheProperties.getExpireAfterWrite())
+				.refreshAfterWrite(this.remoteCacheProperties.getRefreshAfterWrite())
+				.recordStats();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.changes;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.changes")
+@Data
+public class ChangeFeedProperties {
+	
+	private Duration settleTime = Duration.ofSeconds(2);
+	private Duration tombstoneRetention = Duration.ofDays(30);
+	
+}
@@ -0,0 +1,55 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_deliveries")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OutboxDelivery implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_delivery_id", unique = true, nullable = false, updatable = false)
+	private Long outboxDeliveryId;
+	
+	@Column(name = "outbox_event_id", nullable = false, updatable = false)
+	private Long outboxEventId;
+	
+	@Column(name = "subscriber", nullable = false, updatable = false)
+	private String subscriber;
+	
+	@Column(name = "delivered_at", nullable = false, updatable = false)
+	private LocalDateTime deliveredAt;
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -4,6 +4,7 @@ import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.repository.projection.OrderView;
 
 public interface OrderMappingHelper {
 	
@@ -20,6 +21,19 @@ public interface OrderMappingHelper {
 				.build();
 	}
 	
+	public static OrderDto map(final OrderView orderView) {
+		return OrderDto.builder()
+				.orderId(orderView.getOrderId())
+				.orderDate(orderView.getOrderDate())
+				.orderDesc(orderView.getOrderDesc())
+				.orderFee(orderView.getOrderFee())
+				.cartDto(
+						CartDto.builder()
+							.cartId(orderView.getCartId())
+							.build())
+				.build();
+	}
+	
 	public static Order map(final OrderDto orderDto) {
 		return Order.builder()
 				.orderId(orderDto.getOrderId())
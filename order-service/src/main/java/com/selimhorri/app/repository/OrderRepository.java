@@ -1,11 +1,59 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.repository.projection.OrderView;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	String ORDER_VIEW_QUERY = "SELECT o.orderId AS orderId, o.orderDate AS orderDate, o.orderDesc AS orderDesc, "
+			+ "o.orderFee AS orderFee, c.cartId AS cartId FROM Order o LEFT JOIN o.cart c";
+	
+	@Query(ORDER_VIEW_QUERY)
+	List<OrderView> findAllViews();
+	
+	@Query(value = ORDER_VIEW_QUERY, countQuery = "SELECT COUNT(o) FROM Order o")
+	Page<OrderView> findAllViews(final Pageable pageable);
+	
+	@Query(ORDER_VIEW_QUERY)
+	Slice<OrderView> findViewSlice(final Pageable pageable);
+	
+	@Query(ORDER_VIEW_QUERY + " WHERE o.orderId > :orderId")
+	Slice<OrderView> findViewsByOrderIdGreaterThan(@Param("orderId") final Integer orderId, final Pageable pageable);
+	
+	@Query(ORDER_VIEW_QUERY + " WHERE o.orderId IN :orderIds")
+	List<OrderView> findViewsByOrderIdIn(@Param("orderIds") final Collection<Integer> orderIds);
+	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart")
+	Stream<Order> streamAll();
+	
+	@Query("SELECT o.orderId FROM Order o WHERE o.cart.cartId = :cartId")
+	List<Integer> findOrderIdsByCartId(@Param("cartId") final Integer cartId);
 	
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart WHERE o.updatedAt > :since AND o.updatedAt <= :until "
+			+ "ORDER BY o.updatedAt ASC, o.orderId ASC")
+	List<Order> findChanged(@Param("since") final Instant since, @Param("until") final Instant until, final Pageable pageable);
 	
 }
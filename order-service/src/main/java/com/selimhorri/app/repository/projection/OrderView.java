@@ -0,0 +1,13 @@
+package com.selimhorri.app.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface OrderView {
+	
+	Integer getOrderId();
+	LocalDateTime getOrderDate();
+	String getOrderDesc();
+	Double getOrderFee();
+	Integer getCartId();
+	
+}
@@ -0,0 +1,49 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.service.CacheInvalidationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping(AppConstant.RemoteCache.INVALIDATION_API_PATH)
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationResource {
+	
+	private final CacheInvalidationService cacheInvalidationService;
+	
+	@PostMapping
+	public ResponseEntity<Boolean> invalidate(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CacheInvalidationDto cacheInvalidationDto) {
+		log.info("*** Boolean, resource; invalidate remote cache entries *");
+		this.cacheInvalidationService.invalidate(cacheInvalidationDto);
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,9 +1,17 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,8 +20,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.OrderService;
@@ -28,11 +41,51 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll(
+			final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "count", defaultValue = "true") final boolean count) {
 		log.info("*** OrderDto List, controller; fetch all orders *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
+		if (pageable.isUnpaged() && after == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
+		return ResponseEntity.ok(this.orderService.findAll(pageable, after, count));
+	}
+	
+	@GetMapping(params = "ids")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty") 
+			@Valid final List<Integer> orderIds) {
+		log.info("*** OrderDto List, controller; fetch orders by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAllByIds(orderIds)));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** OrderDto Stream, controller; stream all orders *");
+		final var writer = this.objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(out -> this.orderService.streamAll(dto -> {
+					try {
+						out.write(writer.writeValueAsBytes(dto));
+						out.write('\n');
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
+	}
+	
+	@GetMapping("/changes")
+	public ResponseEntity<DtoCollectionResponse<ChangeDto<OrderDto>>> findChanges(
+			@RequestParam(name = "since", required = false) final Instant since, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** OrderDto List, resource; fetch order changes *");
+		return ResponseEntity.ok(this.orderService.findChanges(since != null ? since : Instant.EPOCH, limit));
 	}
 	
 	@GetMapping("/{orderId}")
@@ -1,12 +1,23 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	List<OrderDto> findAllByIds(final Collection<Integer> orderIds);
+	DtoCollectionResponse<OrderDto> findAll(final Pageable pageable, final Integer after, final boolean withCount);
+	void streamAll(final Consumer<OrderDto> consumer);
+	DtoCollectionResponse<ChangeDto<OrderDto>> findChanges(final Instant since, final Integer limit);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
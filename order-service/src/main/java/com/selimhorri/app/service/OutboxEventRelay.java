@@ -0,0 +1,8 @@
+package com.selimhorri.app.service;
+
+public interface OutboxEventRelay {
+	
+	int relay();
+	int purge();
+	
+}
@@ -1,20 +1,44 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.config.client.HttpClientProperties;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
+import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
 import com.selimhorri.app.service.CartService;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,20 +51,43 @@ public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
 	private final RestTemplate restTemplate;
+	private final LoadingCache<Integer, UserDto> userDtoCache;
+	private final OrderRepository orderRepository;
+	private final ChangeFeedService changeFeedService;
+	private final CacheInvalidationPublisher cacheInvalidationPublisher;
+	private final OutboxService outboxService;
+	private final HttpClientProperties httpClientProperties;
+	private final Map<String, CompletableFuture<DtoCollectionResponse<UserDto>>> inFlightUserLookups = 
+			new ConcurrentHashMap<>();
 	
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		final var cartDtos = this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
+		this.enrichUsers(cartDtos);
+		return cartDtos;
+	}
+	
+	@Override
+	public DtoCollectionResponse<CartDto> findAll(final Pageable pageable, final Integer after, final boolean withCount) {
+		log.info("*** CartDto List, service; fetch carts page *");
+		final var response = (after != null) ? 
+				DtoCollectionResponse.of(this.cartRepository
+						.findByCartIdGreaterThan(after, PageRequest.of(0, 
+								pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+								Sort.by("cartId")))
+						.map(CartMappingHelper::map), 
+						d -> String.valueOf(d.getCartId()), 
+						withCount ? this.cartRepository.count() : null) 
+				: DtoCollectionResponse.of((withCount ? this.cartRepository.findAll(pageable) 
+						: this.cartRepository.findAllBy(pageable))
+						.map(CartMappingHelper::map));
+		this.enrichUsers(response.getCollection());
+		return response;
 	}
 	
 	@Override
@@ -49,8 +96,7 @@ public class CartServiceImpl implements CartService {
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
 				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+					c.setUserDto(this.userDtoCache.get(c.getUserDto().getUserId()));
 					return c;
 				})
 				.orElseThrow(() -> new CartNotFoundException(String
@@ -81,7 +127,80 @@ public class CartServiceImpl implements CartService {
 	@Override
 	public void deleteById(final Integer cartId) {
 		log.info("*** Void, service; delete cart by id *");
+		// the cart's orders go with it through the cascade
+		final var orderIds = this.orderRepository.findOrderIdsByCartId(cartId);
 		this.cartRepository.deleteById(cartId);
+		orderIds.forEach(orderId -> {
+			this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.ORDERS, orderId);
+			this.outboxService.recordDeletion(AppConstant.Outbox.ORDERS, orderId);
+			this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.ORDERS, String.valueOf(orderId));
+		});
+	}
+	
+	private void enrichUsers(final Collection<CartDto> cartDtos) {
+		final var userDtos = this.userDtoCache.getAll(cartDtos.stream()
+				.map(CartDto::getUserId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet()), this::fetchUsersByIds);
+		cartDtos.forEach(c -> c.setUserDto(userDtos.getOrDefault(c.getUserId(), c.getUserDto())));
+	}
+	
+	private Map<Integer, UserDto> fetchUsersByIds(final Iterable<? extends Integer> userIds) {
+		final var ids = new ArrayList<Integer>();
+		userIds.forEach(ids::add);
+		// sorted so that concurrent loads of the same users build the same chunk urls and can share them
+		Collections.sort(ids);
+		final var userDtos = new HashMap<Integer, UserDto>(ids.size());
+		for (int from = 0; from < ids.size(); from += AppConstant.USER_IDS_CHUNK_SIZE) {
+			final var chunk = ids.subList(from, Math.min(from + AppConstant.USER_IDS_CHUNK_SIZE, ids.size()));
+			final var response = this.fetchUsers(AppConstant.DiscoveredDomainsApi
+					.USER_SERVICE_API_URL + "?ids=" + chunk.stream()
+							.map(String::valueOf)
+							.collect(Collectors.joining(",")));
+			if (response != null && response.getCollection() != null)
+				response.getCollection().forEach(u -> userDtos.put(u.getUserId(), u));
+		}
+		return userDtos;
+	}
+	
+	/**
+	 * Bulk loads bypass the per-key locking of the cache, so callers asking for the same 
+	 * chunk while it is being fetched wait for that call rather than repeating it, for no longer 
+	 * than the client read timeout. The entry is dropped before the waiters are released, 
+	 * whatever the call ends with, so a failure is never handed to later calls.
+	 */
+	private DtoCollectionResponse<UserDto> fetchUsers(final String url) {
+		final var call = new CompletableFuture<DtoCollectionResponse<UserDto>>();
+		final var inFlight = this.inFlightUserLookups.putIfAbsent(url, call);
+		if (inFlight != null) {
+			try {
+				return inFlight.get(this.httpClientProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			catch (ExecutionException e) {
+				throw (e.getCause() instanceof RuntimeException) ? 
+						(RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+			}
+			catch (TimeoutException e) {
+				throw new ResourceAccessException("Timed out waiting for in-flight user lookup " + url);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ResourceAccessException("Interrupted waiting for in-flight user lookup " + url);
+			}
+		}
+		final DtoCollectionResponse<UserDto> response;
+		try {
+			response = this.restTemplate.exchange(url, HttpMethod.GET, null, 
+					new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}).getBody();
+		}
+		catch (Throwable e) {
+			this.inFlightUserLookups.remove(url, call);
+			call.completeExceptionally(e);
+			throw e;
+		}
+		this.inFlightUserLookups.remove(url, call);
+		call.complete(response);
+		return response;
 	}
 	
 	
@@ -1,17 +1,31 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
 import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
 import com.selimhorri.app.service.OrderService;
+import com.selimhorri.app.service.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,17 +37,67 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final CacheInvalidationPublisher cacheInvalidationPublisher;
+	private final OutboxService outboxService;
+	private final EntityManager entityManager;
+	private final ChangeFeedService changeFeedService;
 	
 	@Override
 	public List<OrderDto> findAll() {
 		log.info("*** OrderDto List, service; fetch all orders *");
-		return this.orderRepository.findAll()
+		return this.orderRepository.findAllViews()
 				.stream()
 					.map(OrderMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto List, service; fetch orders by ids *");
+		return this.orderRepository.findViewsByOrderIdIn(orderIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public DtoCollectionResponse<OrderDto> findAll(final Pageable pageable, final Integer after, final boolean withCount) {
+		log.info("*** OrderDto List, service; fetch orders page *");
+		if (after != null)
+			return DtoCollectionResponse.of(this.orderRepository
+					.findViewsByOrderIdGreaterThan(after, PageRequest.of(0, 
+							pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+							Sort.by("orderId")))
+					.map(OrderMappingHelper::map), 
+					d -> String.valueOf(d.getOrderId()), 
+					withCount ? this.orderRepository.count() : null);
+		return DtoCollectionResponse.of((withCount ? this.orderRepository.findAllViews(pageable) 
+				: this.orderRepository.findViewSlice(pageable))
+				.map(OrderMappingHelper::map));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		final var streamed = new AtomicInteger();
+		try (final var orders = this.orderRepository.streamAll()) {
+			orders.forEach(o -> {
+				consumer.accept(OrderMappingHelper.map(o));
+				if (streamed.incrementAndGet() % AppConstant.STREAM_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	public DtoCollectionResponse<ChangeDto<OrderDto>> findChanges(final Instant since, final Integer limit) {
+		log.info("*** OrderDto List, service; fetch order changes *");
+		return this.changeFeedService.findChanges(AppConstant.ChangeFeed.ORDERS, since, limit, 
+				this.orderRepository::findChanged, OrderMappingHelper::map, 
+				orderId -> OrderDto.builder().orderId(Integer.parseInt(orderId)).build());
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -46,28 +110,39 @@ public class OrderServiceImpl implements OrderService {
 	@Override
 	public OrderDto save(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; save order *");
-		return OrderMappingHelper.map(this.orderRepository
+		final var savedOrderDto = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(orderDto)));
+		this.outboxService.recordUpsert(AppConstant.Outbox.ORDERS, savedOrderDto.getOrderId(), savedOrderDto);
+		return savedOrderDto;
 	}
 	
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
-		return OrderMappingHelper.map(this.orderRepository
+		final var updatedOrderDto = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(orderDto)));
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.ORDERS, updatedOrderDto.getOrderId());
+		this.outboxService.recordUpsert(AppConstant.Outbox.ORDERS, updatedOrderDto.getOrderId(), updatedOrderDto);
+		return updatedOrderDto;
 	}
 	
 	@Override
 	public OrderDto update(final Integer orderId, final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order with orderId *");
-		return OrderMappingHelper.map(this.orderRepository
+		final var updatedOrderDto = OrderMappingHelper.map(this.orderRepository
 				.save(OrderMappingHelper.map(this.findById(orderId))));
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.ORDERS, updatedOrderDto.getOrderId());
+		this.outboxService.recordUpsert(AppConstant.Outbox.ORDERS, updatedOrderDto.getOrderId(), updatedOrderDto);
+		return updatedOrderDto;
 	}
 	
 	@Override
 	public void deleteById(final Integer orderId) {
 		log.info("*** Void, service; delete order by id *");
 		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.ORDERS, orderId);
+		this.outboxService.recordDeletion(AppConstant.Outbox.ORDERS, orderId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.ORDERS, String.valueOf(orderId));
 	}
 	
 	
@@ -0,0 +1,111 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.LocalDateTime;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.config.outbox.OutboxProperties;
+import com.selimhorri.app.domain.OutboxDelivery;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.repository.OutboxDeliveryRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.service.OutboxEventBroker;
+import com.selimhorri.app.service.OutboxEventRelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls unpublished outbox events in id order and hands them to the broker, recording a delivery 
+ * per event and subscriber. Delivery is at-least-once: a failed event stops that subscriber's batch 
+ * and is retried first on the next poll while the other subscribers move on, so each consumer sees 
+ * events in order but must tolerate duplicates. An event counts as published once every configured 
+ * subscriber has taken it.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventRelayImpl implements OutboxEventRelay {
+	
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxDeliveryRepository outboxDeliveryRepository;
+	private final OutboxEventBroker outboxEventBroker;
+	private final OutboxProperties outboxProperties;
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+	public int relay() {
+		final var subscribers = this.outboxProperties.getSubscribers();
+		int relayed = 0;
+		for (final var subscriber : subscribers)
+			relayed += this.relay(subscriber);
+		final var published = subscribers.isEmpty() ? 
+				this.outboxEventRepository.markAllPublished(LocalDateTime.now()) : 
+				this.outboxEventRepository.markDelivered(subscribers, subscribers.size(), LocalDateTime.now());
+		if (relayed > 0 || published > 0)
+			log.info("*** Integer, service; relayed {} outbox deliveries, {} events fully published *", relayed, published);
+		return relayed;
+	}
+	
+	private int relay(final String subscriber) {
+		final var outboxEvents = this.outboxEventRepository
+				.findUndelivered(subscriber, PageRequest.of(0, this.outboxProperties.getBatchSize()));
+		int relayed = 0;
+		for (final var outboxEvent : outboxEvents) {
+			try {
+				this.outboxEventBroker.publish(subscriber, map(outboxEvent));
+			}
+			catch (RuntimeException e) {
+				log.warn("*** Unable to relay outbox event {} to {}, retrying on next poll: {} *", 
+						outboxEvent.getOutboxEventId(), subscriber, e.toString());
+				break;
+			}
+			this.outboxDeliveryRepository.save(OutboxDelivery.builder()
+					.outboxEventId(outboxEvent.getOutboxEventId())
+					.subscriber(subscriber)
+					.deliveredAt(LocalDateTime.now())
+					.build());
+			relayed++;
+		}
+		return relayed;
+	}
+	
+	@Override
+	@Transactional
+	@Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}")
+	public int purge() {
+		final var purged = this.outboxEventRepository
+				.deletePublishedBefore(LocalDateTime.now().minus(this.outboxProperties.getRetention()));
+		log.info("*** Integer, service; purged {} published outbox events *", purged);
+		return purged;
+	}
+	
+	private static OutboxEventDto map(final OutboxEvent outboxEvent) {
+		return OutboxEventDto.builder()
+				.eventId(outboxEvent.getOutboxEventId())
+				.aggregateType(outboxEvent.getAggregateType())
+				.aggregateId(outboxEvent.getAggregateId())
+				.eventType(outboxEvent.getEventType())
+				.payload(outboxEvent.getPayload())
+				.occurredAt(outboxEvent.getOccurredAt())
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
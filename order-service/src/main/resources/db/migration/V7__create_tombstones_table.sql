@@ -0,0 +1,12 @@
+
+CREATE TABLE tombstones (
+	tombstone_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	entity_type VARCHAR(64) NOT NULL,
+	entity_key VARCHAR(255) NOT NULL,
+	deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_tombstones_entity_type_deleted_at ON tombstones (entity_type, deleted_at, tombstone_id);
+
+UPDATE orders SET updated_at = created_at WHERE updated_at IS NULL;
+CREATE INDEX idx_orders_updated_at ON orders (updated_at, order_id);
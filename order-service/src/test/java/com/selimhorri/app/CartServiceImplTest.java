@@ -0,0 +1,246 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.client.HttpClientProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.CartRepository;
+import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
+import com.selimhorri.app.service.impl.CartServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CartServiceImplTest {
+
+	@Mock
+	private CartRepository cartRepository;
+
+	@Mock
+	private RestTemplate restTemplate;
+
+	@Mock
+	private OrderRepository orderRepository;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
+	@Mock
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	@Mock
+	private OutboxService outboxService;
+
+	private HttpClientProperties httpClientProperties;
+
+	private CartServiceImpl cartService;
+
+	@BeforeEach
+	void setUp() {
+		httpClientProperties = new HttpClientProperties();
+		cartService = new CartServiceImpl(cartRepository, restTemplate, Caffeine.newBuilder()
+				.<Integer, UserDto>build(userId -> restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.USER_SERVICE_API_URL + "/" + userId, UserDto.class)), orderRepository, changeFeedService,
+				cacheInvalidationPublisher, outboxService, httpClientProperties);
+	}
+
+	@Test
+	@DisplayName("findAll - Debe resolver usuarios con una sola llamada por lote")
+	@SuppressWarnings("unchecked")
+	void testFindAll_BatchedUserLookup() {
+		final var carts = List.of(
+				Cart.builder().cartId(1).userId(1).build(),
+				Cart.builder().cartId(2).userId(1).build(),
+				Cart.builder().cartId(3).userId(2).build());
+		when(cartRepository.findAll()).thenReturn(carts);
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+						UserDto.builder().userId(1).firstName("Santiago").build(),
+						UserDto.builder().userId(2).firstName("Juan").build()))));
+
+		List<CartDto> result = cartService.findAll();
+
+		assertEquals(3, result.size());
+		assertEquals("Santiago", result.get(0).getUserDto().getFirstName());
+		assertEquals("Santiago", result.get(1).getUserDto().getFirstName());
+		assertEquals("Juan", result.get(2).getUserDto().getFirstName());
+		verify(restTemplate, times(1))
+				.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+		verify(restTemplate, never()).getForObject(anyString(), eq(UserDto.class));
+	}
+
+	@Test
+	@DisplayName("findAll - Debe dividir los ids de usuario en lotes acotados")
+	@SuppressWarnings("unchecked")
+	void testFindAll_ChunkedUserLookup() {
+		final int userCount = AppConstant.USER_IDS_CHUNK_SIZE * 2 + 1;
+		when(cartRepository.findAll()).thenReturn(IntStream.rangeClosed(1, userCount)
+				.mapToObj(i -> Cart.builder().cartId(i).userId(i).build())
+				.collect(Collectors.toList()));
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of())));
+
+		List<CartDto> result = cartService.findAll();
+
+		assertEquals(userCount, result.size());
+		assertNotNull(result.get(0).getUserDto());
+		verify(restTemplate, times(3))
+				.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+	}
+
+	@Test
+	@DisplayName("findAll - Debe reutilizar usuarios en cache entre llamadas")
+	@SuppressWarnings("unchecked")
+	void testFindAll_CachedUserLookup() {
+		when(cartRepository.findAll()).thenReturn(List.of(Cart.builder().cartId(1).userId(1).build()));
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+						UserDto.builder().userId(1).firstName("Santiago").build()))));
+
+		cartService.findAll();
+		List<CartDto> result = cartService.findAll();
+
+		assertEquals("Santiago", result.get(0).getUserDto().getFirstName());
+		verify(restTemplate, times(1))
+				.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+	}
+
+	@Test
+	@DisplayName("findAll - Debe compartir la llamada masiva de usuarios entre cargas concurrentes")
+	@SuppressWarnings("unchecked")
+	void testFindAll_CoalescesConcurrentUserLookups() throws Exception {
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		when(cartRepository.findAll()).thenReturn(List.of(Cart.builder().cartId(1).userId(1).build()));
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenAnswer(i -> {
+					started.countDown();
+					assertTrue(release.await(5, TimeUnit.SECONDS));
+					return ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+							UserDto.builder().userId(1).firstName("Santiago").build())));
+				});
+
+		final var first = new FutureTask<>(cartService::findAll);
+		final var second = new FutureTask<>(cartService::findAll);
+		new Thread(first).start();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		final var waiter = new Thread(second);
+		waiter.start();
+		// the second load parks on the call already on the wire
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (waiter.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline)
+			Thread.sleep(5);
+		release.countDown();
+
+		assertEquals("Santiago", first.get(5, TimeUnit.SECONDS).get(0).getUserDto().getFirstName());
+		assertEquals("Santiago", second.get(5, TimeUnit.SECONDS).get(0).getUserDto().getFirstName());
+		verify(restTemplate, times(1))
+				.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+		assertTrue(inFlightUserLookups().isEmpty());
+	}
+
+	@Test
+	@DisplayName("findAll - No debe conservar una llamada masiva fallida")
+	@SuppressWarnings("unchecked")
+	void testFindAll_DoesNotKeepFailedUserLookup() {
+		when(cartRepository.findAll()).thenReturn(List.of(Cart.builder().cartId(1).userId(1).build()));
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenThrow(new ResourceAccessException("down"))
+				.thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+						UserDto.builder().userId(1).firstName("Santiago").build()))));
+
+		assertThrows(ResourceAccessException.class, () -> cartService.findAll());
+		assertTrue(inFlightUserLookups().isEmpty());
+
+		assertEquals("Santiago", cartService.findAll().get(0).getUserDto().getFirstName());
+		verify(restTemplate, times(2))
+				.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+	}
+
+	@Test
+	@DisplayName("findAll - No debe conservar una llamada masiva que termina con un Error")
+	@SuppressWarnings("unchecked")
+	void testFindAll_DoesNotKeepUserLookupFailedWithError() {
+		when(cartRepository.findAll()).thenReturn(List.of(Cart.builder().cartId(1).userId(1).build()));
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenThrow(new OutOfMemoryError("heap"));
+
+		assertThrows(OutOfMemoryError.class, () -> cartService.findAll());
+		assertTrue(inFlightUserLookups().isEmpty());
+	}
+
+	@Test
+	@DisplayName("findAll - Debe acotar la espera sobre una llamada masiva en curso al timeout de lectura")
+	@SuppressWarnings("unchecked")
+	void testFindAll_BoundsWaitOnInFlightUserLookup() throws Exception {
+		httpClientProperties.setReadTimeout(Duration.ofMillis(50));
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		when(cartRepository.findAll()).thenReturn(List.of(Cart.builder().cartId(1).userId(1).build()));
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+				.thenAnswer(i -> {
+					started.countDown();
+					assertTrue(release.await(5, TimeUnit.SECONDS));
+					return ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+							UserDto.builder().userId(1).firstName("Santiago").build())));
+				});
+
+		final var first = new FutureTask<>(cartService::findAll);
+		new Thread(first).start();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		assertThrows(ResourceAccessException.class, () -> cartService.findAll());
+		release.countDown();
+		assertEquals("Santiago", first.get(5, TimeUnit.SECONDS).get(0).getUserDto().getFirstName());
+	}
+
+	@Test
+	@DisplayName("deleteById - Debe registrar la eliminacion de las ordenes eliminadas en cascada")
+	void testDeleteById_RecordsCascadedOrderTombstones() {
+		when(orderRepository.findOrderIdsByCartId(1)).thenReturn(List.of(4, 5));
+
+		cartService.deleteById(1);
+
+		verify(changeFeedService, times(1)).recordDeletion(AppConstant.ChangeFeed.ORDERS, "4");
+		verify(changeFeedService, times(1)).recordDeletion(AppConstant.ChangeFeed.ORDERS, "5");
+		verify(outboxService, times(1)).recordDeletion(AppConstant.Outbox.ORDERS, 4);
+		verify(outboxService, times(1)).recordDeletion(AppConstant.Outbox.ORDERS, 5);
+		verify(cacheInvalidationPublisher, times(1)).publish(AppConstant.RemoteCache.ORDERS, 4);
+		verify(cartRepository, times(1)).deleteById(1);
+	}
+
+	private Map<?, ?> inFlightUserLookups() {
+		return (Map<?, ?>) ReflectionTestUtils.getField(cartService, "inFlightUserLookups");
+	}
+
+}
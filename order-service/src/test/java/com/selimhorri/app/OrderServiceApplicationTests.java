@@ -4,12 +4,19 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +43,12 @@ class OrderServiceApplicationTests {
 	@Autowired
 	private OrderServiceImpl orderService;
 
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	private Order order;
 	private Cart cart;
 
@@ -129,10 +142,40 @@ class OrderServiceApplicationTests {
 		assertFalse(orderRepository.existsById(saved.getOrderId()));
 		assertThrows(OrderNotFoundException.class, () -> orderService.findById(saved.getOrderId()));
 	}
-}
-
-
-
 
+	@Test
+	@DisplayName("findAll - Debe ejecutar un numero constante de sentencias SQL sin importar el volumen")
+	void testFindAll_Integration_ConstantStatementCount() {
+		saveOrders(2);
+		final long fewOrdersStatements = countStatements(() -> orderService.findAll());
+		final long fewOrdersPageStatements = countStatements(() -> orderService.findAll(PageRequest.of(0, 50), null, false));
+
+		saveOrders(30);
+		final long manyOrdersStatements = countStatements(() -> orderService.findAll());
+		final long manyOrdersPageStatements = countStatements(() -> orderService.findAll(PageRequest.of(0, 50), null, false));
+
+		assertEquals(1, fewOrdersStatements);
+		assertEquals(fewOrdersStatements, manyOrdersStatements);
+		assertEquals(1, fewOrdersPageStatements);
+		assertEquals(fewOrdersPageStatements, manyOrdersPageStatements);
+	}
 
+	private void saveOrders(final int count) {
+		IntStream.range(0, count).forEach(i -> orderRepository.save(Order.builder()
+				.orderDate(LocalDateTime.now())
+				.orderDesc("Order " + i)
+				.orderFee(10.00 + i)
+				.cart(cartRepository.save(Cart.builder().userId(i).build()))
+				.build()));
+	}
 
+	private long countStatements(final Runnable action) {
+		entityManager.flush();
+		entityManager.clear();
+		final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -5,8 +5,13 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,13 +20,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.repository.OrderRepository;
+import com.selimhorri.app.repository.projection.OrderView;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
 import com.selimhorri.app.service.impl.OrderServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +41,18 @@ class OrderServiceImplTest {
 	@Mock
 	private OrderRepository orderRepository;
 
+	@Mock
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
 	@InjectMocks
 	private OrderServiceImpl orderService;
 
@@ -70,14 +93,31 @@ class OrderServiceImplTest {
 	@Test
 	@DisplayName("findAll - Debe retornar lista de órdenes")
 	void testFindAll_Success() {
-		when(orderRepository.findAll()).thenReturn(List.of(order));
+		when(orderRepository.findAllViews()).thenReturn(List.of(view(order)));
 
 		List<OrderDto> result = orderService.findAll();
 
 		assertNotNull(result);
 		assertEquals(1, result.size());
 		assertEquals("Test Order", result.get(0).getOrderDesc());
-		verify(orderRepository, times(1)).findAll();
+		assertEquals(1, result.get(0).getCartDto().getCartId());
+		verify(orderRepository, times(1)).findAllViews();
+		verify(orderRepository, never()).findAll();
+	}
+
+	@Test
+	@DisplayName("streamAll - Debe emitir cada orden y liberar el contexto de persistencia por lotes")
+	void testStreamAll_ClearsPersistenceContext() {
+		final int total = AppConstant.STREAM_FETCH_SIZE * 2 + 1;
+		when(orderRepository.streamAll()).thenReturn(IntStream.rangeClosed(1, total)
+				.mapToObj(i -> Order.builder().orderId(i).cart(cart).build()));
+		final var streamed = new ArrayList<OrderDto>();
+
+		orderService.streamAll(streamed::add);
+
+		assertEquals(total, streamed.size());
+		assertEquals(total, streamed.get(total - 1).getOrderId());
+		verify(entityManager, times(2)).clear();
 	}
 
 	@Test
@@ -126,4 +166,33 @@ class OrderServiceImplTest {
 		verify(orderRepository, times(1)).findById(1);
 		verify(orderRepository, times(1)).delete(any(Order.class));
 	}
+
+	@Test
+	@DisplayName("save - Debe registrar un evento de outbox con la orden guardada")
+	void testSave_RecordsOutboxEvent() {
+		when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+		OrderDto result = orderService.save(orderDto);
+
+		verify(outboxService, times(1)).recordUpsert(AppConstant.Outbox.ORDERS, result.getOrderId(), result);
+	}
+
+	@Test
+	@DisplayName("deleteById - Debe registrar un evento de outbox de eliminacion")
+	void testDeleteById_RecordsOutboxEvent() {
+		when(orderRepository.findById(1)).thenReturn(Optional.of(order));
+
+		orderService.deleteById(1);
+
+		verify(outboxService, times(1)).recordDeletion(AppConstant.Outbox.ORDERS, 1);
+	}
+
+	private static OrderView view(final Order order) {
+		return new SpelAwareProxyProjectionFactory().createProjection(OrderView.class, Map.of(
+				"orderId", order.getOrderId(),
+				"orderDate", order.getOrderDate(),
+				"orderDesc", order.getOrderDesc(),
+				"orderFee", order.getOrderFee(),
+				"cartId", order.getCart().getCartId()));
+	}
 }
@@ -0,0 +1,110 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.config.outbox.OutboxProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OutboxDelivery;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.domain.OutboxEventType;
+import com.selimhorri.app.repository.OutboxDeliveryRepository;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.service.impl.OutboxEventRelayImpl;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventRelayImplTest {
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	@Mock
+	private OutboxDeliveryRepository outboxDeliveryRepository;
+
+	private final List<String> published = new ArrayList<>();
+	private OutboxProperties outboxProperties;
+	private OutboxEventRelayImpl outboxEventRelay;
+
+	@BeforeEach
+	void setUp() {
+		outboxProperties = new OutboxProperties();
+		outboxProperties.setSubscribers(List.of("PAYMENT-SERVICE", "SHIPPING-SERVICE"));
+		// in-JVM broker stand-in, SHIPPING-SERVICE failing from event 2 on to exercise the retry path
+		outboxEventRelay = new OutboxEventRelayImpl(outboxEventRepository, outboxDeliveryRepository, 
+				(subscriber, outboxEventDto) -> {
+					if ("SHIPPING-SERVICE".equals(subscriber) && outboxEventDto.getEventId() >= 2L)
+						throw new IllegalStateException("broker unavailable");
+					published.add(subscriber + ":" + outboxEventDto.getEventId());
+				}, outboxProperties);
+	}
+
+	@Test
+	@DisplayName("relay - Debe publicar eventos en orden a cada suscriptor y registrar cada entrega")
+	void testRelay_PublishesInOrder() {
+		final var first = event(1L);
+		when(outboxEventRepository.findUndelivered(anyString(), any(Pageable.class)))
+				.thenReturn(List.of(first));
+
+		int relayed = outboxEventRelay.relay();
+
+		assertEquals(2, relayed);
+		assertEquals(List.of("PAYMENT-SERVICE:1", "SHIPPING-SERVICE:1"), published);
+		verify(outboxDeliveryRepository, times(2)).save(any(OutboxDelivery.class));
+		verify(outboxEventRepository, times(1))
+				.markDelivered(eq(outboxProperties.getSubscribers()), eq(2L), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("relay - Debe reintentar solo al suscriptor que fallo sin bloquear a los demas")
+	void testRelay_RetriesOnlyFailedSubscriber() {
+		when(outboxEventRepository.findUndelivered(anyString(), any(Pageable.class)))
+				.thenReturn(List.of(event(1L), event(2L), event(3L)));
+
+		int relayed = outboxEventRelay.relay();
+
+		assertEquals(4, relayed);
+		assertEquals(List.of("PAYMENT-SERVICE:1", "PAYMENT-SERVICE:2", "PAYMENT-SERVICE:3", "SHIPPING-SERVICE:1"), 
+				published);
+		final var deliveries = ArgumentCaptor.forClass(OutboxDelivery.class);
+		verify(outboxDeliveryRepository, times(4)).save(deliveries.capture());
+		assertTrue(deliveries.getAllValues().stream()
+				.noneMatch(d -> "SHIPPING-SERVICE".equals(d.getSubscriber()) && d.getOutboxEventId() > 1L));
+	}
+
+	@Test
+	@DisplayName("relay - Debe marcar los eventos como publicados cuando no hay suscriptores")
+	void testRelay_NoSubscribers() {
+		outboxProperties.setSubscribers(List.of());
+
+		int relayed = outboxEventRelay.relay();
+
+		assertEquals(0, relayed);
+		verify(outboxEventRepository, never()).findUndelivered(anyString(), any(Pageable.class));
+		verify(outboxEventRepository, times(1)).markAllPublished(any(LocalDateTime.class));
+	}
+
+	private static OutboxEvent event(final Long outboxEventId) {
+		return OutboxEvent.builder()
+				.outboxEventId(outboxEventId)
+				.aggregateType(AppConstant.Outbox.ORDERS)
+				.aggregateId(outboxEventId.intValue())
+				.eventType(OutboxEventType.UPSERTED)
+				.payload("{\"orderId\":" + outboxEventId + "}")
+				.occurredAt(LocalDateTime.now())
+				.build();
+	}
+}
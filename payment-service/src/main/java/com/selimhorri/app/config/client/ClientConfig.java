@@ -3,15 +3,47 @@ package com.selimhorri.app.config.client;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class ClientConfig {
 	
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider connectionProviderBean(final WebClientProperties webClientProperties) {
+		return ConnectionProvider.builder("remote-client")
+				.maxConnections(webClientProperties.getMaxConnections())
+				.pendingAcquireTimeout(webClientProperties.getPendingAcquireTimeout())
+				.maxIdleTime(webClientProperties.getMaxIdleTime())
+				.metrics(true)
+				.build();
+	}
+	
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public WebClient.Builder webClientBuilderBean(final ConnectionProvider connectionProvider, 
+			final WebClientProperties webClientProperties, final ObjectMapper objectMapper) {
+		final var httpClient = HttpClient.create(connectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) webClientProperties.getConnectTimeout().toMillis());
+		return WebClient.builder()
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.codecs(configurer -> {
+					configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+					configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+				});
+	}
+	
+	@Bean
+	public WebClient webClientBean(final WebClient.Builder webClientBuilder) {
+		return webClientBuilder.build();
 	}
 	
 	
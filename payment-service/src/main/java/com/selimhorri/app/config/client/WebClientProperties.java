@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.client.web")
+@Data
+public class WebClientProperties {
+	
+	private int maxConnections = 200;
+	private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+	private Duration maxIdleTime = Duration.ofSeconds(30);
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration responseTimeout = Duration.ofSeconds(3);
+	private Map<String, Duration> responseTimeouts = new HashMap<>();
+	private int maxRetries = 2;
+	private Duration retryBackoff = Duration.ofMillis(100);
+	
+}
@@ -0,0 +1,23 @@
+package com.selimhorri.app.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -10,6 +10,9 @@ public abstract class AppConstant {
 	public static final String LOCAL_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int STREAM_FETCH_SIZE = 500;
+	public static final int REMOTE_FETCH_CONCURRENCY = 32;
 	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
@@ -34,6 +37,37 @@ public abstract class AppConstant {
 		
 	}
 	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class RemoteCache {
+		
+		public static final String USERS = "users";
+		public static final String PRODUCTS = "products";
+		public static final String ORDERS = "orders";
+		public static final String INVALIDATION_API_PATH = "/api/cache-invalidations";
+		
+	}
+	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class Outbox {
+		
+		public static final String USERS = "users";
+		public static final String PRODUCTS = "products";
+		public static final String ORDERS = "orders";
+		public static final String EVENTS_API_PATH = "/api/outbox-events";
+		public static final String UPSERTED = "UPSERTED";
+		public static final String DELETED = "DELETED";
+		
+	}
+	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class ChangeFeed {
+		
+		public static final String PAYMENTS = "payments";
+		public static final int DEFAULT_LIMIT = 100;
+		public static final int MAX_LIMIT = 1000;
+		
+	}
+	
 	
 	
 }
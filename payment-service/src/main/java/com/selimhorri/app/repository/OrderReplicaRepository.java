@@ -0,0 +1,11 @@
+package com.selimhorri.app.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.selimhorri.app.domain.OrderReplica;
+
+public interface OrderReplicaRepository extends JpaRepository<OrderReplica, Integer> {
+	
+	
+	
+}
@@ -1,11 +1,37 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 	
+	Slice<Payment> findAllBy(final Pageable pageable);
+	Slice<Payment> findByPaymentIdGreaterThan(final Integer paymentId, final Pageable pageable);
+	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT p FROM Payment p")
+	Stream<Payment> streamAll();
 	
+	@Query("SELECT p FROM Payment p WHERE p.updatedAt > :since AND p.updatedAt <= :until ORDER BY p.updatedAt ASC, p.paymentId ASC")
+	List<Payment> findChanged(@Param("since") final Instant since, @Param("until") final Instant until, final Pageable pageable);
 	
 }
@@ -0,0 +1,49 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.service.OutboxEventService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping(AppConstant.Outbox.EVENTS_API_PATH)
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventResource {
+	
+	private final OutboxEventService outboxEventService;
+	
+	@PostMapping
+	public ResponseEntity<Boolean> consume(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final OutboxEventDto outboxEventDto) {
+		log.info("*** Boolean, resource; consume outbox event *");
+		this.outboxEventService.consume(outboxEventDto);
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,9 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,8 +18,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.PaymentService;
@@ -28,11 +39,42 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentResource {
 	
 	private final PaymentService paymentService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll(
+			final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "count", defaultValue = "true") final boolean count) {
 		log.info("*** PaymentDto List, controller; fetch all payments *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
+		if (pageable.isUnpaged() && after == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
+		return ResponseEntity.ok(this.paymentService.findAll(pageable, after, count));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** PaymentDto Stream, controller; stream all payments *");
+		final var writer = this.objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(out -> this.paymentService.streamAll(dto -> {
+					try {
+						out.write(writer.writeValueAsBytes(dto));
+						out.write('\n');
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
+	}
+	
+	@GetMapping("/changes")
+	public ResponseEntity<DtoCollectionResponse<ChangeDto<PaymentDto>>> findChanges(
+			@RequestParam(name = "since", required = false) final Instant since, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** PaymentDto List, resource; fetch payment changes *");
+		return ResponseEntity.ok(this.paymentService.findChanges(since != null ? since : Instant.EPOCH, limit));
 	}
 	
 	@GetMapping("/{paymentId}")
@@ -0,0 +1,13 @@
+package com.selimhorri.app.service;
+
+import java.util.Optional;
+
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+
+public interface OrderReplicaService {
+	
+	Optional<OrderDto> findById(final Integer orderId);
+	boolean apply(final OutboxEventDto outboxEventDto);
+	
+}
@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.OutboxEventDto;
+
+public interface OutboxEventService {
+	
+	void consume(final OutboxEventDto outboxEventDto);
+	
+}
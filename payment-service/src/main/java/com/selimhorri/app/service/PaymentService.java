@@ -1,12 +1,21 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	DtoCollectionResponse<PaymentDto> findAll(final Pageable pageable, final Integer after, final boolean withCount);
+	void streamAll(final Consumer<PaymentDto> consumer);
+	DtoCollectionResponse<ChangeDto<PaymentDto>> findChanges(final Instant since, final Integer limit);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
@@ -0,0 +1,95 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderReplica;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.helper.OrderReplicaMappingHelper;
+import com.selimhorri.app.repository.OrderReplicaRepository;
+import com.selimhorri.app.service.OrderReplicaService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+public class OrderReplicaServiceImpl implements OrderReplicaService {
+	
+	private final OrderReplicaRepository orderReplicaRepository;
+	private final ObjectReader orderDtoReader;
+	
+	public OrderReplicaServiceImpl(final OrderReplicaRepository orderReplicaRepository, final ObjectMapper objectMapper) {
+		this.orderReplicaRepository = orderReplicaRepository;
+		this.orderDtoReader = objectMapper.readerFor(OrderDto.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+	
+	@Override
+	public Optional<OrderDto> findById(final Integer orderId) {
+		log.info("*** OrderDto, service; fetch order replica by id *");
+		return this.orderReplicaRepository.findById(orderId)
+				.filter(orderReplica -> !orderReplica.isDeleted())
+				.map(OrderReplicaMappingHelper::map);
+	}
+	
+	/**
+	 * Applies an order event unless the replica already reflects the same or a newer one, 
+	 * which makes redeliveries from the at-least-once relay harmless.
+	 */
+	@Override
+	public boolean apply(final OutboxEventDto outboxEventDto) {
+		log.info("*** Boolean, service; apply order outbox event *");
+		final var current = this.orderReplicaRepository.findById(outboxEventDto.getAggregateId());
+		if (current.isPresent() && current.get().getLastEventId() >= outboxEventDto.getEventId())
+			return false;
+		
+		final var orderReplica = current.orElseGet(() -> OrderReplica.builder()
+				.orderId(outboxEventDto.getAggregateId())
+				.build());
+		orderReplica.setLastEventId(outboxEventDto.getEventId());
+		if (AppConstant.Outbox.DELETED.equals(outboxEventDto.getEventType()))
+			orderReplica.setDeleted(true);
+		else {
+			final var orderDto = this.read(outboxEventDto);
+			orderReplica.setOrderDate(orderDto.getOrderDate());
+			orderReplica.setOrderDesc(orderDto.getOrderDesc());
+			orderReplica.setOrderFee(orderDto.getOrderFee());
+			orderReplica.setDeleted(false);
+		}
+		this.orderReplicaRepository.save(orderReplica);
+		return true;
+	}
+	
+	private OrderDto read(final OutboxEventDto outboxEventDto) {
+		try {
+			return this.orderDtoReader.readValue(outboxEventDto.getPayload());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,54 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.service.CacheInvalidationService;
+import com.selimhorri.app.service.OrderReplicaService;
+import com.selimhorri.app.service.OutboxEventService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventServiceImpl implements OutboxEventService {
+	
+	private final OrderReplicaService orderReplicaService;
+	private final CacheInvalidationService cacheInvalidationService;
+	
+	@Override
+	public void consume(final OutboxEventDto outboxEventDto) {
+		log.info("*** Void, service; consume {} outbox event {} *", 
+				outboxEventDto.getAggregateType(), outboxEventDto.getEventId());
+		switch (outboxEventDto.getAggregateType()) {
+			case AppConstant.Outbox.ORDERS:
+				if (this.orderReplicaService.apply(outboxEventDto))
+					this.cacheInvalidationService.invalidate(CacheInvalidationDto.builder()
+							.cacheName(AppConstant.RemoteCache.ORDERS)
+							.ids(Set.of(outboxEventDto.getAggregateId()))
+							.build());
+				break;
+			default:
+				log.warn("*** Ignoring outbox event for unknown aggregate: {} *", outboxEventDto.getAggregateType());
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
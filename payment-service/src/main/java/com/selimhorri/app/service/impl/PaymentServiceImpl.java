@@ -1,23 +1,35 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
+import com.selimhorri.app.service.ChangeFeedService;
 import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @Transactional
@@ -26,21 +38,60 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
-	private final RestTemplate restTemplate;
+	private final EntityManager entityManager;
+	private final AsyncLoadingCache<Integer, OrderDto> orderDtoCache;
+	private final ChangeFeedService changeFeedService;
 	
 	@Override
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.fetchOrders(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<PaymentDto> findAll(final Pageable pageable, final Integer after, final boolean withCount) {
+		log.info("*** PaymentDto List, service; fetch payments page *");
+		if (after != null) {
+			final var slice = this.paymentRepository
+					.findByPaymentIdGreaterThan(after, PageRequest.of(0, 
+							pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+							Sort.by("paymentId")))
+					.map(PaymentMappingHelper::map);
+			this.fetchOrders(slice.getContent());
+			return DtoCollectionResponse.of(slice, 
+					d -> String.valueOf(d.getPaymentId()), 
+					withCount ? this.paymentRepository.count() : null);
+		}
+		final var slice = (withCount ? this.paymentRepository.findAll(pageable) 
+				: this.paymentRepository.findAllBy(pageable))
+				.map(PaymentMappingHelper::map);
+		this.fetchOrders(slice.getContent());
+		return DtoCollectionResponse.of(slice);
+	}
+	
+	@Override
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		final var streamed = new AtomicInteger();
+		try (final var payments = this.paymentRepository.streamAll()) {
+			payments.forEach(p -> {
+				consumer.accept(PaymentMappingHelper.map(p));
+				if (streamed.incrementAndGet() % AppConstant.STREAM_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	public DtoCollectionResponse<ChangeDto<PaymentDto>> findChanges(final Instant since, final Integer limit) {
+		log.info("*** PaymentDto List, service; fetch payment changes *");
+		return this.changeFeedService.findChanges(AppConstant.ChangeFeed.PAYMENTS, since, limit, 
+				this.paymentRepository::findChanged, PaymentMappingHelper::map, 
+				paymentId -> PaymentDto.builder().paymentId(Integer.parseInt(paymentId)).build());
 	}
 	
 	@Override
@@ -48,11 +99,7 @@ public class PaymentServiceImpl implements PaymentService {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
-				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-					return p;
-				})
+				.map(p -> this.fetchOrders(List.of(p)).get(0))
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
@@ -74,6 +121,23 @@ public class PaymentServiceImpl implements PaymentService {
 	public void deleteById(final Integer paymentId) {
 		log.info("*** Void, service; delete payment by id *");
 		this.paymentRepository.deleteById(paymentId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.PAYMENTS, String.valueOf(paymentId));
+	}
+	
+	private List<PaymentDto> fetchOrders(final List<PaymentDto> paymentDtos) {
+		Flux.fromIterable(paymentDtos)
+				.flatMap(this::fetchOrder, AppConstant.REMOTE_FETCH_CONCURRENCY)
+				.then()
+				.block();
+		return paymentDtos;
+	}
+	
+	private Mono<PaymentDto> fetchOrder(final PaymentDto paymentDto) {
+		return Mono.fromFuture(this.orderDtoCache.get(paymentDto.getOrderDto().getOrderId()).copy())
+				.map(orderDto -> {
+					paymentDto.setOrderDto(orderDto);
+					return paymentDto;
+				});
 	}
 	
 	
@@ -0,0 +1,79 @@
+package com.selimhorri.app.service.impl;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.selimhorri.app.config.client.WebClientProperties;
+import com.selimhorri.app.service.RemoteClientService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RemoteClientServiceImpl implements RemoteClientService {
+	
+	private final WebClient webClient;
+	private final WebClientProperties webClientProperties;
+	private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+	
+	/**
+	 * Identical lookups issued while one is still on the wire subscribe to that call instead 
+	 * of starting their own, which also covers loads the caches restart after an invalidation. 
+	 * The entry is dropped before the result is handed out, so a failed call is never shared 
+	 * with lookups that come after it.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Mono<T> get(final String uri, final Class<T> type) {
+		return Mono.defer(() -> (Mono<T>) this.inFlight.computeIfAbsent(type.getName() + " " + uri, 
+				key -> this.fetch(uri, type)
+						.doOnTerminate(() -> this.inFlight.remove(key))
+						.cache()));
+	}
+	
+	private <T> Mono<T> fetch(final String uri, final Class<T> type) {
+		final var target = URI.create(uri).getHost().toLowerCase();
+		return this.webClient.get()
+				.uri(uri)
+				.retrieve()
+				.bodyToMono(type)
+				.timeout(this.webClientProperties.getResponseTimeouts()
+						.getOrDefault(target, this.webClientProperties.getResponseTimeout()))
+				.retryWhen(Retry.backoff(this.webClientProperties.getMaxRetries(), this.webClientProperties.getRetryBackoff())
+						.filter(this::isRetryable)
+						.doBeforeRetry(signal -> log.warn("*** {}, remote client; retrying {} after {} *", 
+								target, uri, signal.failure().toString()))
+						.onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+	}
+	
+	private boolean isRetryable(final Throwable throwable) {
+		return throwable instanceof WebClientRequestException 
+				|| throwable instanceof TimeoutException 
+				|| (throwable instanceof WebClientResponseException 
+						&& ((WebClientResponseException) throwable).getStatusCode().is5xxServerError());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
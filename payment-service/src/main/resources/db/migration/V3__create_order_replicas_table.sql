@@ -0,0 +1,10 @@
+
+CREATE TABLE order_replicas (
+	order_id INT(11) NOT NULL PRIMARY KEY,
+	order_date TIMESTAMP,
+	order_desc VARCHAR(255),
+	order_fee DECIMAL(7, 2),
+	is_deleted BOOLEAN NOT NULL,
+	last_event_id BIGINT NOT NULL
+);
+
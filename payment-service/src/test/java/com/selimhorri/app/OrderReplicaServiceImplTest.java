@@ -0,0 +1,90 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderReplica;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.repository.OrderReplicaRepository;
+import com.selimhorri.app.service.impl.OrderReplicaServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReplicaServiceImplTest {
+
+	@Mock
+	private OrderReplicaRepository orderReplicaRepository;
+
+	private final JsonMapper objectMapper = new JsonMapper();
+	private OrderReplicaServiceImpl orderReplicaService;
+
+	@BeforeEach
+	void setUp() {
+		orderReplicaService = new OrderReplicaServiceImpl(orderReplicaRepository, objectMapper);
+	}
+
+	@Test
+	@DisplayName("apply - Debe crear la replica a partir del evento de la orden")
+	void testApply_Upsert() throws Exception {
+		when(orderReplicaRepository.findById(1)).thenReturn(Optional.empty());
+
+		boolean applied = orderReplicaService.apply(event(5L, AppConstant.Outbox.UPSERTED,
+				"{\"orderId\":1,\"orderDesc\":\"Test Order\",\"orderFee\":100.0,\"cart\":{\"cartId\":1}}"));
+
+		final var captor = ArgumentCaptor.forClass(OrderReplica.class);
+		verify(orderReplicaRepository).save(captor.capture());
+		assertTrue(applied);
+		assertEquals("Test Order", captor.getValue().getOrderDesc());
+		assertEquals(100.0, captor.getValue().getOrderFee());
+		assertEquals(5L, captor.getValue().getLastEventId());
+		assertFalse(captor.getValue().isDeleted());
+	}
+
+	@Test
+	@DisplayName("apply - Debe ignorar eventos repetidos o anteriores a la replica")
+	void testApply_StaleEventIgnored() throws Exception {
+		when(orderReplicaRepository.findById(1)).thenReturn(Optional.of(OrderReplica.builder()
+				.orderId(1).orderDesc("Newer").lastEventId(9L).build()));
+
+		boolean applied = orderReplicaService.apply(event(5L, AppConstant.Outbox.UPSERTED,
+				"{\"orderId\":1,\"orderDesc\":\"Older\"}"));
+
+		assertFalse(applied);
+		verify(orderReplicaRepository, never()).save(any(OrderReplica.class));
+	}
+
+	@Test
+	@DisplayName("apply - Debe conservar una lapida cuando la orden se elimina")
+	void testApply_DeletionKeepsTombstone() throws Exception {
+		final var orderReplica = OrderReplica.builder().orderId(1).orderDesc("Test Order").lastEventId(5L).build();
+		when(orderReplicaRepository.findById(1)).thenReturn(Optional.of(orderReplica));
+
+		orderReplicaService.apply(event(6L, AppConstant.Outbox.DELETED, "null"));
+
+		verify(orderReplicaRepository, times(1)).save(orderReplica);
+		assertTrue(orderReplica.isDeleted());
+		assertTrue(orderReplicaService.findById(1).isEmpty());
+	}
+
+	private OutboxEventDto event(final Long eventId, final String eventType, final String payload) throws Exception {
+		return OutboxEventDto.builder()
+				.eventId(eventId)
+				.aggregateType(AppConstant.Outbox.ORDERS)
+				.aggregateId(1)
+				.eventType(eventType)
+				.payload(objectMapper.readTree(payload))
+				.build();
+	}
+}
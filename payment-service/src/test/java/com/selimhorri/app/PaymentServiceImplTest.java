@@ -11,19 +11,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.domain.PaymentStatus;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.repository.PaymentRepository;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.RemoteClientService;
 import com.selimhorri.app.service.impl.PaymentServiceImpl;
 
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceImplTest {
 
@@ -31,9 +35,11 @@ class PaymentServiceImplTest {
 	private PaymentRepository paymentRepository;
 
 	@Mock
-	private RestTemplate restTemplate;
+	private RemoteClientService remoteClientService;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
 
-	@InjectMocks
 	private PaymentServiceImpl paymentService;
 
 	private Payment payment;
@@ -42,6 +48,10 @@ class PaymentServiceImplTest {
 
 	@BeforeEach
 	void setUp() {
+		paymentService = new PaymentServiceImpl(paymentRepository, null, Caffeine.newBuilder()
+				.<Integer, OrderDto>buildAsync((orderId, executor) -> remoteClientService.get(AppConstant.DiscoveredDomainsApi
+						.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class).toFuture()), changeFeedService);
+
 		orderDto = OrderDto.builder()
 				.orderId(1)
 				.build();
@@ -65,7 +75,7 @@ class PaymentServiceImplTest {
 	@DisplayName("findAll - Debe retornar lista de pagos")
 	void testFindAll_Success() {
 		when(paymentRepository.findAll()).thenReturn(List.of(payment));
-		when(restTemplate.getForObject(anyString(), eq(OrderDto.class))).thenReturn(orderDto);
+		when(remoteClientService.get(anyString(), eq(OrderDto.class))).thenReturn(Mono.just(orderDto));
 
 		List<PaymentDto> result = paymentService.findAll();
 
@@ -79,7 +89,7 @@ class PaymentServiceImplTest {
 	@DisplayName("findById - Debe retornar pago por ID")
 	void testFindById_Success() {
 		when(paymentRepository.findById(1)).thenReturn(Optional.of(payment));
-		when(restTemplate.getForObject(anyString(), eq(OrderDto.class))).thenReturn(orderDto);
+		when(remoteClientService.get(anyString(), eq(OrderDto.class))).thenReturn(Mono.just(orderDto));
 
 		PaymentDto result = paymentService.findById(1);
 
@@ -89,6 +99,19 @@ class PaymentServiceImplTest {
 		verify(paymentRepository, times(1)).findById(1);
 	}
 
+	@Test
+	@DisplayName("findById - Debe reutilizar la orden en cache entre llamadas")
+	void testFindById_CachedOrderLookup() {
+		when(paymentRepository.findById(1)).thenReturn(Optional.of(payment));
+		when(remoteClientService.get(anyString(), eq(OrderDto.class))).thenReturn(Mono.just(orderDto));
+
+		paymentService.findById(1);
+		PaymentDto result = paymentService.findById(1);
+
+		assertEquals(1, result.getOrderDto().getOrderId());
+		verify(remoteClientService, times(1)).get(anyString(), eq(OrderDto.class));
+	}
+
 	@Test
 	@DisplayName("findById - Debe lanzar excepción cuando pago no existe")
 	void testFindById_NotFound() {
@@ -0,0 +1,140 @@
+package com.selimhorri.app.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.config.mapper.SmileConfig;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@Slf4j
+public class DtoCollectionResponseBenchmark {
+	
+	private static final TypeReference<DtoCollectionResponse<ProductDto>> RESPONSE_TYPE = new TypeReference<>() {};
+	
+	@Param({ "1000", "10000", "100000" })
+	public int size;
+	
+	private ObjectMapper objectMapper;
+	private ObjectMapper compactObjectMapper;
+	private ObjectMapper smileMapper;
+	private DtoCollectionResponse<ProductDto> response;
+	private byte[] compactJson;
+	private byte[] smile;
+	
+	@Setup
+	public void setUp() throws IOException {
+		this.objectMapper = new MapperConfig().objectMapperBean();
+		this.compactObjectMapper = new MapperConfig().objectMapperBean()
+				.disable(SerializationFeature.INDENT_OUTPUT);
+		this.smileMapper = new SmileConfig().smileMapper();
+		final var categoryDto = CategoryDto.builder()
+				.categoryId(1)
+				.categoryTitle("Computer")
+				.imageUrl("xxx")
+				.build();
+		final List<ProductDto> productDtos = IntStream.range(0, this.size)
+				.mapToObj(i -> ProductDto.builder()
+						.productId(i)
+						.productTitle("product-" + i)
+						.imageUrl("xxx")
+						.sku("sku-" + i)
+						.priceUnit(i * 1.5)
+						.quantity(i % 100)
+						.categoryDto(categoryDto)
+						.build())
+				.collect(Collectors.toUnmodifiableList());
+		this.response = new DtoCollectionResponse<>(productDtos);
+		this.compactJson = this.compactObjectMapper.writeValueAsBytes(this.response);
+		this.smile = this.smileMapper.writeValueAsBytes(this.response);
+		log.info("*** {} products, benchmark; json {} B, json+gzip {} B, smile {} B, smile+gzip {} B *", this.size, 
+				this.compactJson.length, gzip(this.compactJson).length, this.smile.length, gzip(this.smile).length);
+	}
+	
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.response);
+	}
+	
+	@Benchmark
+	public byte[] serializeCompact() throws JsonProcessingException {
+		return this.compactObjectMapper.writeValueAsBytes(this.response);
+	}
+	
+	@Benchmark
+	public byte[] serializeCompactGzip() throws IOException {
+		return gzip(this.compactObjectMapper.writeValueAsBytes(this.response));
+	}
+	
+	@Benchmark
+	public byte[] serializeSmile() throws JsonProcessingException {
+		return this.smileMapper.writeValueAsBytes(this.response);
+	}
+	
+	@Benchmark
+	public byte[] serializeSmileGzip() throws IOException {
+		return gzip(this.smileMapper.writeValueAsBytes(this.response));
+	}
+	
+	@Benchmark
+	public DtoCollectionResponse<ProductDto> deserializeCompact() throws IOException {
+		return this.compactObjectMapper.readValue(this.compactJson, RESPONSE_TYPE);
+	}
+	
+	@Benchmark
+	public DtoCollectionResponse<ProductDto> deserializeSmile() throws IOException {
+		return this.smileMapper.readValue(this.smile, RESPONSE_TYPE);
+	}
+	
+	private static byte[] gzip(final byte[] payload) throws IOException {
+		final var bytes = new ByteArrayOutputStream(payload.length / 4);
+		try (final var gzip = new GZIPOutputStream(bytes)) {
+			gzip.write(payload);
+		}
+		return bytes.toByteArray();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
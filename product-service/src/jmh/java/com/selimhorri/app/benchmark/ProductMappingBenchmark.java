@@ -0,0 +1,72 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+	
+	private Product product;
+	private ProductDto productDto;
+	
+	@Setup
+	public void setUp() {
+		this.product = Product.builder()
+				.productId(1)
+				.productTitle("asus")
+				.imageUrl("xxx")
+				.sku("dfqejklejrkn")
+				.priceUnit(199.99)
+				.quantity(50)
+				.category(Category.builder()
+						.categoryId(1)
+						.categoryTitle("Computer")
+						.imageUrl("xxx")
+						.build())
+				.build();
+		this.productDto = ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public ProductDto mapToDto() {
+		return ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public Product mapToEntity() {
+		return ProductMappingHelper.map(this.productDto);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,77 @@
+package com.selimhorri.app.config.etag;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CategoryTreeSnapshot;
+import com.selimhorri.app.service.TableVersionRegistry;
+import com.selimhorri.app.service.impl.TableVersionRegistryImpl;
+
+@Configuration
+public class ConditionalGetConfig {
+	
+	@Bean
+	public TableVersionRegistry tableVersionRegistryBean(final ProductRepository productRepository, 
+			final CategoryRepository categoryRepository) {
+		return new TableVersionRegistryImpl(Map.of(
+				AppConstant.ConditionalGet.PRODUCTS, productRepository::findTableVersion, 
+				AppConstant.ConditionalGet.CATEGORIES, categoryRepository::findTableVersion));
+	}
+	
+	@Bean
+	public FilterRegistrationBean<ConditionalGetFilter> conditionalGetFilterBean(final ConditionalGetProperties conditionalGetProperties, 
+			final TableVersionRegistry tableVersionRegistry, 
+			final CategoryTreeSnapshot categoryTreeSnapshot) {
+		final Supplier<String> catalogVersion = () -> tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS) 
+				+ "," + tableVersionRegistry.versionOf(AppConstant.ConditionalGet.CATEGORIES);
+		final Supplier<String> categoryTreeVersion = () -> "tree#" + categoryTreeSnapshot.generation();
+		
+		final var versions = new LinkedHashMap<String, Supplier<String>>();
+		versions.put("/api/products", catalogVersion);
+		versions.put("/api/products/{productId:\\d+}", catalogVersion);
+		versions.put("/api/categories", categoryTreeVersion);
+		versions.put("/api/categories/{categoryId:\\d+}/subtree", categoryTreeVersion);
+		versions.put("/api/categories/{categoryId:\\d+}", catalogVersion);
+		versions.put("/api/categories/{categoryId:\\d+}/products", catalogVersion);
+		
+		final var registration = new FilterRegistrationBean<>(new ConditionalGetFilter(versions, conditionalGetProperties.getCacheControl()));
+		registration.addUrlPatterns("/api/products/*", "/api/categories/*");
+		return registration;
+	}
+	
+	/**
+	 * Tomcat skips compression for responses carrying a strong ETag by default. 
+	 * Our ETags already hash Accept-Encoding, so gzip and identity bodies never share one.
+	 */
+	@Bean
+	public WebServerFactoryCustomizer<TomcatServletWebServerFactory> strongETagCompressionCustomizerBean() {
+		return factory -> factory.addConnectorCustomizers(connector -> {
+			if (connector.getProtocolHandler() instanceof AbstractHttp11Protocol)
+				((AbstractHttp11Protocol<?>) connector.getProtocolHandler()).setNoCompressionStrongETag(false);
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
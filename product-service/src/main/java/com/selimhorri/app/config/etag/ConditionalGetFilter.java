@@ -0,0 +1,99 @@
+package com.selimhorri.app.config.etag;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers conditional GETs from precomputed versions. The strong ETag is a digest of 
+ * the version backing the matched path plus the request URI and negotiation headers, 
+ * so a matching If-None-Match is answered with 304 before any handler runs.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+	
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	
+	private final Map<String, Supplier<String>> versions;
+	private final String cacheControl;
+	
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) {
+		return !HttpMethod.GET.matches(request.getMethod());
+	}
+	
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
+			throws ServletException, IOException {
+		
+		final var path = request.getRequestURI().substring(request.getContextPath().length());
+		final var version = this.versions.entrySet()
+				.stream()
+					.filter(entry -> PATH_MATCHER.match(entry.getKey(), path))
+					.map(Map.Entry::getValue)
+					.findFirst();
+		
+		if (version.isEmpty()) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		
+		final var eTag = eTag(version.get().get(), request);
+		response.setHeader(HttpHeaders.ETAG, eTag);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, this.cacheControl);
+		
+		if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+			log.info("*** Void, filter; {} not modified *", path);
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		
+		filterChain.doFilter(request, response);
+	}
+	
+	private static String eTag(final String version, final HttpServletRequest request) {
+		final var key = String.join("|", version, request.getRequestURI(), String.valueOf(request.getQueryString()), 
+				String.valueOf(request.getHeader(HttpHeaders.ACCEPT)), 
+				String.valueOf(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+		return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+	
+	private static boolean matches(final String ifNoneMatch, final String eTag) {
+		if (ifNoneMatch == null)
+			return false;
+		return Arrays.stream(ifNoneMatch.split(","))
+				.map(String::trim)
+				.map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+				.anyMatch(candidate -> candidate.equals(eTag) || candidate.equals("*"));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
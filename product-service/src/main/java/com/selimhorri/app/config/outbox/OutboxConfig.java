@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.outbox;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import com.selimhorri.app.service.OutboxEventBroker;
+import com.selimhorri.app.service.impl.HttpOutboxEventBroker;
+
+@Configuration
+public class OutboxConfig {
+	
+	@Bean
+	public OutboxEventBroker outboxEventBrokerBean(final DiscoveryClient discoveryClient, 
+			final OutboxProperties outboxProperties, 
+			final RestTemplateBuilder restTemplateBuilder, final CloseableHttpClient httpClient) {
+		return new HttpOutboxEventBroker(discoveryClient, restTemplateBuilder
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+				.setConnectTimeout(outboxProperties.getTimeout())
+				.setReadTimeout(outboxProperties.getTimeout())
+				.build());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+@Data
+public class OutboxProperties {
+	
+	private List<String> subscribers = new ArrayList<>();
+	private Duration timeout = Duration.ofSeconds(2);
+	private int batchSize = 100;
+	private Duration retention = Duration.ofDays(7);
+	
+}
@@ -0,0 +1,36 @@
+package com.selimhorri.app.config.stock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.StockReservationRepository;
+import com.selimhorri.app.service.StockReservationService;
+import com.selimhorri.app.service.TableVersionRegistry;
+import com.selimhorri.app.service.impl.StockReservationServiceImpl;
+
+@Configuration
+public class StockReservationConfig {
+	
+	@Bean
+	public StockReservationService stockReservationServiceBean(final ProductRepository productRepository, 
+			final StockReservationRepository stockReservationRepository, final TableVersionRegistry tableVersionRegistry, 
+			final TransactionTemplate transactionTemplate, final StockReservationProperties stockReservationProperties) {
+		return new StockReservationServiceImpl(productRepository, stockReservationRepository, tableVersionRegistry, 
+				transactionTemplate, stockReservationProperties);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
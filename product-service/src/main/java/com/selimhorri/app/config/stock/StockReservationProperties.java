@@ -0,0 +1,32 @@
+package com.selimhorri.app.config.stock;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.stock.reservation")
+@Data
+public class StockReservationProperties {
+	
+	private Duration defaultTtl = Duration.ofMinutes(15);
+	private Duration maxTtl = Duration.ofHours(2);
+	private int sweepBatchSize = 500;
+	private int stripes = 64;
+	private int permitsPerStripe = 4;
+	private Duration acquireTimeout = Duration.ofSeconds(2);
+	
+}
+
+
+
+
+
+
+
+
+
+
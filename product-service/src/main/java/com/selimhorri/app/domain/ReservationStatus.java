@@ -0,0 +1,20 @@
+package com.selimhorri.app.domain;
+
+public enum ReservationStatus {
+	
+	HELD, 
+	COMMITTED, 
+	RELEASED, 
+	EXPIRED;
+	
+}
+
+
+
+
+
+
+
+
+
+
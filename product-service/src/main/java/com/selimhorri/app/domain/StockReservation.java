@@ -0,0 +1,66 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "stock_reservations")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class StockReservation implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "reservation_id", unique = true, nullable = false, updatable = false)
+	private String reservationId;
+	
+	@Column(name = "product_id", nullable = false, updatable = false)
+	private Integer productId;
+	
+	@Column(name = "quantity", nullable = false, updatable = false)
+	private Integer quantity;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false)
+	private ReservationStatus status;
+	
+	@Column(name = "expires_at", nullable = false, updatable = false)
+	private Instant expiresAt;
+	
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private Instant createdAt;
+	
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,22 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductSearchCriteria implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private Integer categoryId;
+	private Double minPrice;
+	private Double maxPrice;
+	private String query;
+	
+}
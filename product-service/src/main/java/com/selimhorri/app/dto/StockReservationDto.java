@@ -0,0 +1,50 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.selimhorri.app.domain.ReservationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class StockReservationDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private String reservationId;
+	
+	@NotNull(message = "Product id must not be NULL")
+	private Integer productId;
+	
+	@NotNull(message = "Quantity must not be NULL")
+	@Positive(message = "Quantity must be positive")
+	private Integer quantity;
+	
+	private ReservationStatus status;
+	
+	@JsonSerialize(using = ToStringSerializer.class)
+	private Instant expiresAt;
+	
+}
+
+
+
+
+
+
+
+
+
+
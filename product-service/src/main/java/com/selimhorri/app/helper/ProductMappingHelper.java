@@ -4,6 +4,7 @@ import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.repository.projection.ProductView;
 
 public interface ProductMappingHelper {
 	
@@ -15,6 +16,7 @@ public interface ProductMappingHelper {
 				.sku(product.getSku())
 				.priceUnit(product.getPriceUnit())
 				.quantity(product.getQuantity())
+				.version(product.getVersion())
 				.categoryDto(
 						CategoryDto.builder()
 							.categoryId(product.getCategory().getCategoryId())
@@ -24,6 +26,24 @@ public interface ProductMappingHelper {
 				.build();
 	}
 	
+	public static ProductDto map(final ProductView productView) {
+		return ProductDto.builder()
+				.productId(productView.getProductId())
+				.productTitle(productView.getProductTitle())
+				.imageUrl(productView.getImageUrl())
+				.sku(productView.getSku())
+				.priceUnit(productView.getPriceUnit())
+				.quantity(productView.getQuantity())
+				.version(productView.getVersion())
+				.categoryDto(
+						CategoryDto.builder()
+							.categoryId(productView.getCategoryId())
+							.categoryTitle(productView.getCategoryTitle())
+							.imageUrl(productView.getCategoryImageUrl())
+							.build())
+				.build();
+	}
+	
 	public static Product map(final ProductDto productDto) {
 		return Product.builder()
 				.productId(productDto.getProductId())
@@ -32,6 +52,7 @@ public interface ProductMappingHelper {
 				.sku(productDto.getSku())
 				.priceUnit(productDto.getPriceUnit())
 				.quantity(productDto.getQuantity())
+				.version(productDto.getVersion())
 				.category(
 						Category.builder()
 							.categoryId(productDto.getCategoryDto().getCategoryId())
@@ -1,11 +1,39 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.repository.projection.CategoryNode;
+import com.selimhorri.app.repository.projection.TableVersion;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	Optional<Category> findById(final Integer categoryId);
+	
+	@Query("SELECT c.categoryId AS categoryId, c.categoryTitle AS categoryTitle, c.imageUrl AS imageUrl, "
+			+ "pc.categoryId AS parentCategoryId, c.categoryPath AS categoryPath "
+			+ "FROM Category c LEFT JOIN c.parentCategory pc")
+	List<CategoryNode> findAllNodes();
+	
+	@Query("SELECT c.categoryPath FROM Category c WHERE c.categoryId = :categoryId")
+	Optional<String> findCategoryPathById(@Param("categoryId") final Integer categoryId);
+	
+	@Modifying
+	@Query("UPDATE Category c SET c.categoryPath = CONCAT(:categoryPath, SUBSTRING(c.categoryPath, :suffixStart)) "
+			+ "WHERE c.categoryPath LIKE :previousCategoryPathPrefix")
+	int moveSubtree(@Param("previousCategoryPathPrefix") final String previousCategoryPathPrefix, 
+			@Param("categoryPath") final String categoryPath, @Param("suffixStart") final int suffixStart);
 	
+	@Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastUpdatedAt FROM Category c")
+	TableVersion findTableVersion();
 	
 }
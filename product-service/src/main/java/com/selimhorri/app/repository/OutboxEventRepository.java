@@ -0,0 +1,41 @@
+package com.selimhorri.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+	
+	@Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND NOT EXISTS "
+			+ "(SELECT d FROM OutboxDelivery d WHERE d.outboxEventId = e.outboxEventId AND d.subscriber = :subscriber) "
+			+ "ORDER BY e.outboxEventId ASC")
+	List<OutboxEvent> findUndelivered(@Param("subscriber") final String subscriber, final Pageable pageable);
+	
+	@Modifying
+	@Transactional
+	@Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.publishedAt IS NULL AND "
+			+ "(SELECT COUNT(d) FROM OutboxDelivery d WHERE d.outboxEventId = e.outboxEventId "
+			+ "AND d.subscriber IN :subscribers) = :subscriberCount")
+	int markDelivered(@Param("subscribers") final Collection<String> subscribers, 
+			@Param("subscriberCount") final long subscriberCount, @Param("publishedAt") final LocalDateTime publishedAt);
+	
+	@Modifying
+	@Transactional
+	@Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.publishedAt IS NULL")
+	int markAllPublished(@Param("publishedAt") final LocalDateTime publishedAt);
+	
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :publishedBefore")
+	int deletePublishedBefore(@Param("publishedBefore") final LocalDateTime publishedBefore);
+	
+}
@@ -1,11 +1,74 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.projection.ProductView;
+import com.selimhorri.app.repository.projection.TableVersion;
 
-public interface ProductRepository extends JpaRepository<Product, Integer> {
+public interface ProductRepository extends JpaRepository<Product, Integer>, ProductStockRepository {
+	
+	String PRODUCT_VIEW_QUERY = "SELECT p.productId AS productId, p.productTitle AS productTitle, p.imageUrl AS imageUrl, "
+			+ "p.sku AS sku, p.priceUnit AS priceUnit, p.quantity AS quantity, p.version AS version, c.categoryId AS categoryId, "
+			+ "c.categoryTitle AS categoryTitle, c.imageUrl AS categoryImageUrl FROM Product p LEFT JOIN p.category c";
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	Optional<Product> findById(final Integer productId);
+	
+	@Query(PRODUCT_VIEW_QUERY)
+	List<ProductView> findAllViews();
+	
+	@Query(value = PRODUCT_VIEW_QUERY, countQuery = "SELECT COUNT(p) FROM Product p")
+	Page<ProductView> findAllViews(final Pageable pageable);
+	
+	@Query(PRODUCT_VIEW_QUERY)
+	Slice<ProductView> findViewSlice(final Pageable pageable);
+	
+	@Query(PRODUCT_VIEW_QUERY + " WHERE p.productId > :productId")
+	Slice<ProductView> findViewsByProductIdGreaterThan(@Param("productId") final Integer productId, final Pageable pageable);
+	
+	@Query(PRODUCT_VIEW_QUERY + " WHERE p.productId IN :productIds")
+	List<ProductView> findViewsByProductIdIn(@Param("productIds") final Collection<Integer> productIds);
+	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.STREAM_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category")
+	Stream<Product> streamAll();
+	
+	/**
+	 * Takes the ancestor's path with a trailing wildcard bound as a literal prefix, 
+	 * so the match is a range scan on the category path index.
+	 */
+	@Query("SELECT p FROM Product p JOIN FETCH p.category c WHERE c.categoryPath LIKE :categoryPathPrefix")
+	List<Product> findAllInCategoryTree(@Param("categoryPathPrefix") final String categoryPathPrefix);
 	
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.updatedAt > :since AND p.updatedAt <= :until "
+			+ "ORDER BY p.updatedAt ASC, p.productId ASC")
+	List<Product> findChanged(@Param("since") final Instant since, @Param("until") final Instant until, final Pageable pageable);
 	
+	@Query("SELECT COUNT(p) AS rowCount, MAX(p.updatedAt) AS lastUpdatedAt FROM Product p")
+	TableVersion findTableVersion();
 	
 }
@@ -0,0 +1,10 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+
+public interface ProductStockRepository {
+	
+	int reserveStock(final Integer productId, final Integer quantity, final Instant now);
+	int releaseStock(final Integer productId, final Integer quantity, final Instant now);
+	
+}
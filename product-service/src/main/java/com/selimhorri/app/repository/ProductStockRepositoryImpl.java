@@ -0,0 +1,83 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.Product;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Conditional stock updates that leave the second-level cache alone apart from the product 
+ * they touch. A JPQL bulk update, or a native one synchronized on the products table, makes 
+ * Hibernate drop the whole product region on every reservation.
+ */
+@RequiredArgsConstructor
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+	
+	// no cached entity maps to this space, so Hibernate has no region to clean up after the update
+	private static final String STOCK_QUERY_SPACE = "product_stock";
+	private static final String RESERVE_STOCK = "UPDATE products SET quantity = quantity - :quantity, version = version + 1, "
+			+ "updated_at = :now WHERE product_id = :productId AND quantity >= :quantity";
+	private static final String RELEASE_STOCK = "UPDATE products SET quantity = quantity + :quantity, version = version + 1, "
+			+ "updated_at = :now WHERE product_id = :productId";
+	
+	private final EntityManager entityManager;
+	
+	@Override
+	public int reserveStock(final Integer productId, final Integer quantity, final Instant now) {
+		return this.update(RESERVE_STOCK, productId, quantity, now);
+	}
+	
+	@Override
+	public int releaseStock(final Integer productId, final Integer quantity, final Instant now) {
+		return this.update(RELEASE_STOCK, productId, quantity, now);
+	}
+	
+	private int update(final String sql, final Integer productId, final Integer quantity, final Instant now) {
+		final int updated = this.entityManager.createNativeQuery(sql)
+				.unwrap(NativeQuery.class)
+				.addSynchronizedQuerySpace(STOCK_QUERY_SPACE)
+				.setParameter("productId", productId)
+				.setParameter("quantity", quantity)
+				.setParameter("now", now)
+				.executeUpdate();
+		if (updated > 0)
+			this.evict(productId);
+		return updated;
+	}
+	
+	/**
+	 * Evicted again once the transaction completes, since a concurrent reader may put the row 
+	 * back as it was before the update committed. Category product collections only hold ids 
+	 * and stay valid.
+	 */
+	private void evict(final Integer productId) {
+		final var cache = this.entityManager.getEntityManagerFactory().getCache();
+		cache.evict(Product.class, productId);
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(final int status) {
+					cache.evict(Product.class, productId);
+				}
+			});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,41 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.domain.StockReservation;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+	
+	List<StockReservation> findByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(final ReservationStatus status, 
+			final Instant expiresAt, final Pageable pageable);
+	
+	@Modifying
+	@Query("UPDATE StockReservation r SET r.status = com.selimhorri.app.domain.ReservationStatus.COMMITTED, "
+			+ "r.version = r.version + 1 WHERE r.reservationId = :reservationId "
+			+ "AND r.status = com.selimhorri.app.domain.ReservationStatus.HELD AND r.expiresAt > :now")
+	int commitHeld(@Param("reservationId") final String reservationId, @Param("now") final Instant now);
+	
+	@Modifying
+	@Query("UPDATE StockReservation r SET r.status = :status, r.version = r.version + 1 "
+			+ "WHERE r.reservationId = :reservationId AND r.status = com.selimhorri.app.domain.ReservationStatus.HELD")
+	int releaseHeld(@Param("reservationId") final String reservationId, @Param("status") final ReservationStatus status);
+	
+}
+
+
+
+
+
+
+
+
+
+
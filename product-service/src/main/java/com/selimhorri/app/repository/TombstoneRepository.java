@@ -0,0 +1,25 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.Tombstone;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+	
+	@Query("SELECT t FROM Tombstone t WHERE t.entityType = :entityType AND t.deletedAt > :since AND t.deletedAt <= :until "
+			+ "ORDER BY t.deletedAt ASC, t.tombstoneId ASC")
+	List<Tombstone> findChanged(@Param("entityType") final String entityType, 
+			@Param("since") final Instant since, @Param("until") final Instant until, final Pageable pageable);
+	
+	@Modifying
+	@Query("DELETE FROM Tombstone t WHERE t.deletedAt < :deletedBefore")
+	int deleteDeletedBefore(@Param("deletedBefore") final Instant deletedBefore);
+	
+}
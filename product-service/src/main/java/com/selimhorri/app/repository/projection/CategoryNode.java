@@ -0,0 +1,11 @@
+package com.selimhorri.app.repository.projection;
+
+public interface CategoryNode {
+	
+	Integer getCategoryId();
+	String getCategoryTitle();
+	String getImageUrl();
+	Integer getParentCategoryId();
+	String getCategoryPath();
+	
+}
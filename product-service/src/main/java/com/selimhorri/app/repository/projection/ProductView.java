@@ -0,0 +1,16 @@
+package com.selimhorri.app.repository.projection;
+
+public interface ProductView {
+	
+	Integer getProductId();
+	String getProductTitle();
+	String getImageUrl();
+	String getSku();
+	Double getPriceUnit();
+	Integer getQuantity();
+	Long getVersion();
+	Integer getCategoryId();
+	String getCategoryTitle();
+	String getCategoryImageUrl();
+	
+}
@@ -0,0 +1,10 @@
+package com.selimhorri.app.repository.projection;
+
+import java.time.Instant;
+
+public interface TableVersion {
+	
+	Long getRowCount();
+	Instant getLastUpdatedAt();
+	
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.CategoryService;
 
@@ -44,6 +45,24 @@ public class CategoryResource {
 		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
 	
+	@GetMapping("/{categoryId}/subtree")
+	public ResponseEntity<CategoryDto> findSubtree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto, resource; fetch category subtree by id *");
+		return ResponseEntity.ok(this.categoryService.findSubtree(Integer.parseInt(categoryId)));
+	}
+	
+	@GetMapping("/{categoryId}/products")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAllProducts(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** ProductDto List, resource; fetch all products under category tree *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAllProducts(Integer.parseInt(categoryId))));
+	}
+	
 	@PostMapping
 	public ResponseEntity<CategoryDto> save(
 			@RequestBody 
@@ -1,9 +1,17 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,9 +20,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductSearchCriteria;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.ProductService;
 
@@ -28,11 +42,59 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll(
+			final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "count", defaultValue = "true") final boolean count) {
 		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		if (pageable.isUnpaged() && after == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		return ResponseEntity.ok(this.productService.findAll(pageable, after, count));
+	}
+	
+	@GetMapping(params = "ids")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty") 
+			@Valid final List<Integer> productIds) {
+		log.info("*** ProductDto List, controller; fetch products by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAllByIds(productIds)));
+	}
+	
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** ProductDto Stream, controller; stream all products *");
+		final var writer = this.objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(out -> this.productService.streamAll(dto -> {
+					try {
+						out.write(writer.writeValueAsBytes(dto));
+						out.write('\n');
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
+	}
+	
+	@GetMapping("/changes")
+	public ResponseEntity<DtoCollectionResponse<ChangeDto<ProductDto>>> findChanges(
+			@RequestParam(name = "since", required = false) final Instant since, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** ProductDto List, resource; fetch product changes *");
+		return ResponseEntity.ok(this.productService.findChanges(since != null ? since : Instant.EPOCH, limit));
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> search(
+			final ProductSearchCriteria productSearchCriteria, 
+			final Pageable pageable) {
+		log.info("*** ProductDto List, resource; search products *");
+		return ResponseEntity.ok(this.productService.search(productSearchCriteria, pageable));
 	}
 	
 	@GetMapping("/{productId}")
@@ -53,6 +115,15 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.save(productDto));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<@Valid ProductDto> productDtos) {
+		log.info("*** ProductDto List, resource; save products batch *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.saveAll(productDtos)));
+	}
+	
 	@PutMapping
 	public ResponseEntity<ProductDto> update(
 			@RequestBody 
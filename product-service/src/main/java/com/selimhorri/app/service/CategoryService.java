@@ -3,10 +3,13 @@ package com.selimhorri.app.service;
 import java.util.List;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
 
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	CategoryDto findSubtree(final Integer categoryId);
+	List<ProductDto> findAllProducts(final Integer categoryId);
 	CategoryDto findById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
@@ -0,0 +1,15 @@
+package com.selimhorri.app.service;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.CategoryDto;
+
+public interface CategoryTreeSnapshot {
+	
+	void rebuild();
+	void refresh();
+	long generation();
+	List<CategoryDto> findAll();
+	CategoryDto findSubtree(final Integer categoryId);
+	
+}
@@ -0,0 +1,13 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.OutboxEventDto;
+
+public interface OutboxEventBroker {
+	
+	/**
+	 * Delivers the event to one subscriber, throwing when it did not accept it so that the 
+	 * relay records no delivery for that subscriber and retries it on the next poll.
+	 */
+	void publish(final String subscriber, final OutboxEventDto outboxEventDto);
+	
+}
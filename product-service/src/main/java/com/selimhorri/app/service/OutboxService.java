@@ -0,0 +1,8 @@
+package com.selimhorri.app.service;
+
+public interface OutboxService {
+	
+	void recordUpsert(final String aggregateType, final Integer aggregateId, final Object payload);
+	void recordDeletion(final String aggregateType, final Integer aggregateId);
+	
+}
@@ -0,0 +1,16 @@
+package com.selimhorri.app.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductSearchCriteria;
+
+public interface ProductSearchIndex {
+	
+	void rebuild();
+	void index(final ProductDto productDto);
+	void remove(final Integer productId);
+	Page<ProductDto> search(final ProductSearchCriteria productSearchCriteria, final Pageable pageable);
+	
+}
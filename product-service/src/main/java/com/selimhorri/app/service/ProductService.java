@@ -1,14 +1,28 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductSearchCriteria;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	List<ProductDto> findAllByIds(final Collection<Integer> productIds);
+	DtoCollectionResponse<ProductDto> findAll(final Pageable pageable, final Integer after, final boolean withCount);
+	void streamAll(final Consumer<ProductDto> consumer);
+	DtoCollectionResponse<ChangeDto<ProductDto>> findChanges(final Instant since, final Integer limit);
+	DtoCollectionResponse<ProductDto> search(final ProductSearchCriteria productSearchCriteria, final Pageable pageable);
 	ProductDto findById(final Integer productId);
 	ProductDto save(final ProductDto productDto);
+	List<ProductDto> saveAll(final List<ProductDto> productDtos);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
 	void deleteById(final Integer productId);
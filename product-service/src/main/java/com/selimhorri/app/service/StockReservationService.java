@@ -0,0 +1,15 @@
+package com.selimhorri.app.service;
+
+import java.time.Duration;
+
+import com.selimhorri.app.dto.StockReservationDto;
+
+public interface StockReservationService {
+	
+	StockReservationDto findById(final String reservationId);
+	StockReservationDto reserve(final Integer productId, final Integer quantity, final Duration ttl);
+	StockReservationDto commit(final String reservationId);
+	StockReservationDto release(final String reservationId);
+	int releaseExpired();
+	
+}
@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+public interface TableVersionRegistry {
+	
+	String versionOf(final String table);
+	void touch(final String table);
+	void refresh();
+	
+}
@@ -1,17 +1,29 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.CategoryTreeSnapshot;
+import com.selimhorri.app.service.OutboxService;
+import com.selimhorri.app.service.ProductSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,14 +35,33 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final ProductRepository productRepository;
+	private final CategoryTreeSnapshot categoryTreeSnapshot;
+	private final ChangeFeedService changeFeedService;
+	private final ProductSearchIndex productSearchIndex;
+	private final CacheInvalidationPublisher cacheInvalidationPublisher;
+	private final OutboxService outboxService;
 	
 	@Override
 	public List<CategoryDto> findAll() {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
-		return this.categoryRepository.findAll()
+		return this.categoryTreeSnapshot.findAll();
+	}
+	
+	@Override
+	public CategoryDto findSubtree(final Integer categoryId) {
+		log.info("*** CategoryDto, service; fetch category subtree by id *");
+		return this.categoryTreeSnapshot.findSubtree(categoryId);
+	}
+	
+	@Override
+	public List<ProductDto> findAllProducts(final Integer categoryId) {
+		log.info("*** ProductDto List, service; fetch all products under category tree *");
+		final var categoryPath = this.categoryRepository.findCategoryPathById(categoryId)
+				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
+		return this.productRepository.findAllInCategoryTree(categoryPath + "%")
 				.stream()
-					.map(CategoryMappingHelper::map)
-					.distinct()
+					.map(ProductMappingHelper::map)
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
@@ -45,28 +76,81 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		final var savedCategoryDto = CategoryMappingHelper.map(this.persist(CategoryMappingHelper.map(categoryDto)));
+		this.categoryTreeSnapshot.refresh();
+		return savedCategoryDto;
 	}
 	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		final var updatedCategoryDto = CategoryMappingHelper.map(this.persist(CategoryMappingHelper.map(categoryDto)));
+		this.categoryTreeSnapshot.refresh();
+		return updatedCategoryDto;
 	}
 	
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		final var updatedCategoryDto = CategoryMappingHelper.map(this.persist(CategoryMappingHelper.map(this.findById(categoryId))));
+		this.categoryTreeSnapshot.refresh();
+		return updatedCategoryDto;
 	}
 	
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
+		// products of the whole subtree go with the category through the cascade
+		final var productIds = this.categoryRepository.findCategoryPathById(categoryId)
+				.map(categoryPath -> this.productRepository.findAllInCategoryTree(categoryPath + "%"))
+				.orElseGet(List::of)
+				.stream()
+					.map(Product::getProductId)
+					.collect(Collectors.toUnmodifiableList());
 		this.categoryRepository.deleteById(categoryId);
+		productIds.forEach(this::recordProductDeletion);
+		this.categoryTreeSnapshot.refresh();
+	}
+	
+	/**
+	 * Same bookkeeping as a direct product delete, so replicas, caches and the search 
+	 * index drop products removed through the category cascade as well.
+	 */
+	private void recordProductDeletion(final Integer productId) {
+		this.productSearchIndex.remove(productId);
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.PRODUCTS, productId);
+		this.outboxService.recordDeletion(AppConstant.Outbox.PRODUCTS, productId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.PRODUCTS, String.valueOf(productId));
+	}
+	
+	private Category persist(final Category category) {
+		
+		final var parentCategoryId = Optional.ofNullable(category.getParentCategory())
+				.map(Category::getCategoryId)
+				.orElse(null);
+		if (parentCategoryId == null)
+			category.setParentCategory(null);
+		final var parentCategoryPath = (parentCategoryId == null) ? AppConstant.CATEGORY_PATH_SEPARATOR 
+				: this.categoryRepository.findCategoryPathById(parentCategoryId)
+					.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", parentCategoryId)));
+		
+		final var previousCategoryPath = Optional.ofNullable(category.getCategoryId())
+				.flatMap(this.categoryRepository::findCategoryPathById);
+		if (previousCategoryPath.isEmpty()) {
+			final var savedCategory = this.categoryRepository.save(category);
+			savedCategory.setCategoryPath(parentCategoryPath + savedCategory.getCategoryId() + AppConstant.CATEGORY_PATH_SEPARATOR);
+			return savedCategory;
+		}
+		if (parentCategoryPath.startsWith(previousCategoryPath.get()))
+			throw new IllegalStateException(String.format("Category with id: %d cannot be moved under its own subtree", 
+					category.getCategoryId()));
+		
+		final var categoryPath = parentCategoryPath + category.getCategoryId() + AppConstant.CATEGORY_PATH_SEPARATOR;
+		category.setCategoryPath(categoryPath);
+		final var savedCategory = this.categoryRepository.save(category);
+		if (!previousCategoryPath.get().equals(categoryPath))
+			this.categoryRepository.moveSubtree(previousCategoryPath.get() + "%", categoryPath, previousCategoryPath.get().length() + 1);
+		return savedCategory;
 	}
 	
 	
@@ -0,0 +1,150 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.projection.CategoryNode;
+import com.selimhorri.app.service.CategoryTreeSnapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryTreeSnapshotImpl implements CategoryTreeSnapshot {
+	
+	private static final Comparator<CategoryNode> BY_ID = Comparator.comparing(CategoryNode::getCategoryId);
+	
+	private final CategoryRepository categoryRepository;
+	private final AtomicLong generations = new AtomicLong();
+	private volatile Snapshot snapshot;
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.catalog.category-tree.rebuild-interval:PT10M}")
+	public void rebuild() {
+		log.info("*** Void, service; rebuild category tree snapshot *");
+		final var rebuilt = new Snapshot(this.generations.incrementAndGet(), this.categoryRepository.findAllNodes());
+		this.snapshot = rebuilt;
+		log.info("*** Void, service; category tree snapshot rebuilt with {} categories *", rebuilt.nodes.size());
+	}
+	
+	@Override
+	public void refresh() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					rebuild();
+				}
+			});
+		else
+			this.rebuild();
+	}
+	
+	@Override
+	public long generation() {
+		return this.current().generation;
+	}
+	
+	@Override
+	public List<CategoryDto> findAll() {
+		log.info("*** CategoryDto List, service; fetch all categories from snapshot *");
+		final var current = this.current();
+		return current.nodes.values()
+				.stream()
+					.sorted(BY_ID)
+					.map(current::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public CategoryDto findSubtree(final Integer categoryId) {
+		log.info("*** CategoryDto, service; fetch category subtree from snapshot *");
+		final var current = this.current();
+		final var node = current.nodes.get(categoryId);
+		if (node == null)
+			throw new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId));
+		return current.subtree(node);
+	}
+	
+	private Snapshot current() {
+		final var current = this.snapshot;
+		if (current != null)
+			return current;
+		synchronized (this) {
+			if (this.snapshot == null)
+				this.rebuild();
+			return this.snapshot;
+		}
+	}
+	
+	private static final class Snapshot {
+		
+		private final long generation;
+		private final Map<Integer, CategoryNode> nodes = new HashMap<>();
+		private final Map<Integer, List<CategoryNode>> children = new HashMap<>();
+		
+		private Snapshot(final long generation, final List<CategoryNode> categoryNodes) {
+			this.generation = generation;
+			categoryNodes.forEach(node -> this.nodes.put(node.getCategoryId(), node));
+			categoryNodes.stream()
+					.filter(node -> node.getParentCategoryId() != null)
+					.sorted(BY_ID)
+					.forEach(node -> this.children.computeIfAbsent(node.getParentCategoryId(), k -> new ArrayList<>())
+							.add(node));
+		}
+		
+		private CategoryDto map(final CategoryNode node) {
+			final var parentNode = (node.getParentCategoryId() == null) ? null : this.nodes.get(node.getParentCategoryId());
+			return CategoryDto.builder()
+					.categoryId(node.getCategoryId())
+					.categoryTitle(node.getCategoryTitle())
+					.imageUrl(node.getImageUrl())
+					.parentCategoryDto((parentNode == null) ? new CategoryDto() :
+						CategoryDto.builder()
+							.categoryId(parentNode.getCategoryId())
+							.categoryTitle(parentNode.getCategoryTitle())
+							.imageUrl(parentNode.getImageUrl())
+							.build())
+					.build();
+		}
+		
+		private CategoryDto subtree(final CategoryNode node) {
+			final var categoryDto = this.map(node);
+			categoryDto.setSubCategoriesDtos(this.children.getOrDefault(node.getCategoryId(), Collections.emptyList())
+					.stream()
+						.map(this::subtree)
+						.collect(Collectors.toCollection(LinkedHashSet::new)));
+			return categoryDto;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
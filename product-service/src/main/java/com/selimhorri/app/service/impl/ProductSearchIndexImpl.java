@@ -0,0 +1,287 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductSearchCriteria;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.ProductSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSearchIndexImpl implements ProductSearchIndex {
+	
+	private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+	private static final Comparator<ProductDto> BY_ID = Comparator.comparing(ProductDto::getProductId);
+	private static final Comparator<ProductDto> BY_PRICE = Comparator
+			.comparing(ProductDto::getPriceUnit, Comparator.nullsFirst(Comparator.<Double>naturalOrder()))
+			.thenComparing(BY_ID);
+	
+	private final ProductRepository productRepository;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Object rebuildLock = new Object();
+	private Index index = new Index();
+	private List<Consumer<Index>> pending;
+	
+	/**
+	 * Writes that land while the products are being streamed are recorded and replayed onto 
+	 * the rebuilt index in the same critical section that swaps it in, since the stream may 
+	 * have read the rows before those writes committed.
+	 */
+	@Override
+	@Transactional
+	@Scheduled(fixedDelayString = "${app.search.products.rebuild-interval:PT10M}")
+	public void rebuild() {
+		log.info("*** Void, service; rebuild product search index *");
+		synchronized (this.rebuildLock) {
+			final var rebuilt = new Index();
+			this.write(i -> this.pending = new ArrayList<>());
+			try (final var products = this.productRepository.streamAll()) {
+				products.map(ProductMappingHelper::map).forEach(rebuilt::add);
+			}
+			catch (RuntimeException e) {
+				this.write(i -> this.pending = null);
+				throw e;
+			}
+			this.write(i -> {
+				this.pending.forEach(action -> action.accept(rebuilt));
+				this.pending = null;
+				this.index = rebuilt;
+			});
+			log.info("*** Void, service; product search index rebuilt with {} products *", rebuilt.products.size());
+		}
+	}
+	
+	@Override
+	public void index(final ProductDto productDto) {
+		this.afterCommit(() -> this.apply(i -> i.add(productDto)));
+	}
+	
+	@Override
+	public void remove(final Integer productId) {
+		this.afterCommit(() -> this.apply(i -> i.remove(productId)));
+	}
+	
+	@Override
+	public Page<ProductDto> search(final ProductSearchCriteria productSearchCriteria, final Pageable pageable) {
+		log.info("*** ProductDto Page, service; search product index *");
+		final List<ProductDto> matches;
+		this.lock.readLock().lock();
+		try {
+			matches = this.index.find(productSearchCriteria);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+		matches.sort(comparator(pageable.getSort()));
+		if (pageable.isUnpaged())
+			return new PageImpl<>(matches);
+		final int from = (int) Math.min(pageable.getOffset(), matches.size());
+		final int to = Math.min(from + pageable.getPageSize(), matches.size());
+		return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+	}
+	
+	private void apply(final Consumer<Index> action) {
+		this.write(i -> {
+			action.accept(i);
+			if (this.pending != null)
+				this.pending.add(action);
+		});
+	}
+	
+	private void write(final Consumer<Index> action) {
+		this.lock.writeLock().lock();
+		try {
+			action.accept(this.index);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	private void afterCommit(final Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		else
+			action.run();
+	}
+	
+	private static Comparator<ProductDto> comparator(final Sort sort) {
+		Comparator<ProductDto> comparator = null;
+		for (final Sort.Order order : sort) {
+			final var next = order.isAscending() ? comparator(order.getProperty()) 
+					: comparator(order.getProperty()).reversed();
+			comparator = (comparator == null) ? next : comparator.thenComparing(next);
+		}
+		return (comparator == null) ? BY_ID : comparator.thenComparing(BY_ID);
+	}
+	
+	private static Comparator<ProductDto> comparator(final String property) {
+		switch (property) {
+			case "productId":
+				return BY_ID;
+			case "priceUnit":
+				return BY_PRICE;
+			case "productTitle":
+				return nullsFirst(ProductDto::getProductTitle, String.CASE_INSENSITIVE_ORDER);
+			case "sku":
+				return nullsFirst(ProductDto::getSku, Comparator.naturalOrder());
+			case "quantity":
+				return nullsFirst(ProductDto::getQuantity, Comparator.naturalOrder());
+			default:
+				throw new IllegalStateException(String.format("Unsupported sort property: %s", property));
+		}
+	}
+	
+	private static <T> Comparator<ProductDto> nullsFirst(final Function<ProductDto, T> keyExtractor, 
+			final Comparator<? super T> keyComparator) {
+		return Comparator.comparing(keyExtractor, Comparator.nullsFirst(keyComparator));
+	}
+	
+	private static Set<String> tokenize(final String text) {
+		if (text == null || text.isBlank())
+			return Set.of();
+		return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+				.filter(token -> !token.isEmpty())
+				.collect(Collectors.toSet());
+	}
+	
+	private static boolean isInPriceRange(final ProductDto productDto, final Double minPrice, final Double maxPrice) {
+		final var priceUnit = productDto.getPriceUnit();
+		return (minPrice == null || (priceUnit != null && priceUnit >= minPrice)) 
+				&& (maxPrice == null || (priceUnit != null && priceUnit <= maxPrice));
+	}
+	
+	private static final class Index {
+		
+		private final Map<Integer, ProductDto> products = new HashMap<>();
+		private final Map<Integer, Set<Integer>> productIdsByCategory = new HashMap<>();
+		private final NavigableSet<ProductDto> productsByPrice = new TreeSet<>(BY_PRICE);
+		private final NavigableMap<String, Set<Integer>> productIdsByToken = new TreeMap<>();
+		
+		private void add(final ProductDto productDto) {
+			this.remove(productDto.getProductId());
+			this.products.put(productDto.getProductId(), productDto);
+			this.productsByPrice.add(productDto);
+			if (productDto.getCategoryDto() != null && productDto.getCategoryDto().getCategoryId() != null)
+				this.productIdsByCategory.computeIfAbsent(productDto.getCategoryDto().getCategoryId(), k -> new HashSet<>())
+						.add(productDto.getProductId());
+			tokenize(productDto.getProductTitle()).forEach(token -> this.productIdsByToken
+					.computeIfAbsent(token, k -> new HashSet<>())
+					.add(productDto.getProductId()));
+		}
+		
+		private void remove(final Integer productId) {
+			final var productDto = this.products.remove(productId);
+			if (productDto == null)
+				return;
+			this.productsByPrice.remove(productDto);
+			if (productDto.getCategoryDto() != null && productDto.getCategoryDto().getCategoryId() != null)
+				removeFrom(this.productIdsByCategory, productDto.getCategoryDto().getCategoryId(), productId);
+			tokenize(productDto.getProductTitle()).forEach(token -> removeFrom(this.productIdsByToken, token, productId));
+		}
+		
+		private List<ProductDto> find(final ProductSearchCriteria criteria) {
+			Set<Integer> candidateIds = null;
+			if (criteria.getCategoryId() != null)
+				candidateIds = this.productIdsByCategory.getOrDefault(criteria.getCategoryId(), Set.of());
+			for (final var token : tokenize(criteria.getQuery())) {
+				final var tokenIds = new HashSet<Integer>();
+				this.productIdsByToken.subMap(token, true, token + Character.MAX_VALUE, false)
+						.values()
+						.forEach(tokenIds::addAll);
+				candidateIds = (candidateIds == null) ? tokenIds : intersect(candidateIds, tokenIds);
+			}
+			if (candidateIds == null)
+				return new ArrayList<>(this.priceRange(criteria.getMinPrice(), criteria.getMaxPrice()));
+			return candidateIds.stream()
+					.map(this.products::get)
+					.filter(p -> isInPriceRange(p, criteria.getMinPrice(), criteria.getMaxPrice()))
+					.collect(Collectors.toCollection(ArrayList::new));
+		}
+		
+		private NavigableSet<ProductDto> priceRange(final Double minPrice, final Double maxPrice) {
+			final var lowerBound = (minPrice == null && maxPrice != null) ? Double.valueOf(Double.NEGATIVE_INFINITY) : minPrice;
+			var range = this.productsByPrice;
+			if (lowerBound != null)
+				range = range.tailSet(priceBound(lowerBound, Integer.MIN_VALUE), true);
+			if (maxPrice != null)
+				range = range.headSet(priceBound(maxPrice, Integer.MAX_VALUE), true);
+			return range;
+		}
+		
+		private static ProductDto priceBound(final Double priceUnit, final Integer productId) {
+			return ProductDto.builder()
+					.priceUnit(priceUnit)
+					.productId(productId)
+					.build();
+		}
+		
+		private static <K> void removeFrom(final Map<K, Set<Integer>> index, final K key, final Integer productId) {
+			final var productIds = index.get(key);
+			if (productIds != null && productIds.remove(productId) && productIds.isEmpty())
+				index.remove(key);
+		}
+		
+		private static Set<Integer> intersect(final Set<Integer> left, final Set<Integer> right) {
+			final var smaller = (left.size() <= right.size()) ? left : right;
+			final var larger = (smaller == left) ? right : left;
+			return smaller.stream()
+					.filter(larger::contains)
+					.collect(Collectors.toSet());
+		}
+		
+	}
+	
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
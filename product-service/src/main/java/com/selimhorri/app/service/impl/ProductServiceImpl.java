@@ -1,16 +1,33 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductSearchCriteria;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
+import com.selimhorri.app.service.ProductSearchIndex;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,17 +40,74 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final CacheInvalidationPublisher cacheInvalidationPublisher;
+	private final EntityManager entityManager;
+	private final ProductSearchIndex productSearchIndex;
+	private final OutboxService outboxService;
+	private final ChangeFeedService changeFeedService;
 	
 	@Override
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
-		return this.productRepository.findAll()
+		return this.productRepository.findAllViews()
 				.stream()
 					.map(ProductMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		return this.productRepository.findViewsByProductIdIn(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public DtoCollectionResponse<ProductDto> findAll(final Pageable pageable, final Integer after, final boolean withCount) {
+		log.info("*** ProductDto List, service; fetch products page *");
+		if (after != null)
+			return DtoCollectionResponse.of(this.productRepository
+					.findViewsByProductIdGreaterThan(after, PageRequest.of(0, 
+							pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+							Sort.by("productId")))
+					.map(ProductMappingHelper::map), 
+					p -> String.valueOf(p.getProductId()), 
+					withCount ? this.productRepository.count() : null);
+		return DtoCollectionResponse.of((withCount ? this.productRepository.findAllViews(pageable) 
+				: this.productRepository.findViewSlice(pageable))
+				.map(ProductMappingHelper::map));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<ProductDto> consumer) {
+		log.info("*** ProductDto Stream, service; stream all products *");
+		final var streamed = new AtomicInteger();
+		try (final var products = this.productRepository.streamAll()) {
+			products.forEach(p -> {
+				consumer.accept(ProductMappingHelper.map(p));
+				if (streamed.incrementAndGet() % AppConstant.STREAM_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	public DtoCollectionResponse<ChangeDto<ProductDto>> findChanges(final Instant since, final Integer limit) {
+		log.info("*** ProductDto List, service; fetch product changes *");
+		return this.changeFeedService.findChanges(AppConstant.ChangeFeed.PRODUCTS, since, limit, 
+				this.productRepository::findChanged, ProductMappingHelper::map, 
+				productId -> ProductDto.builder().productId(Integer.parseInt(productId)).build());
+	}
+	
+	@Override
+	public DtoCollectionResponse<ProductDto> search(final ProductSearchCriteria productSearchCriteria, final Pageable pageable) {
+		log.info("*** ProductDto List, service; search products *");
+		return DtoCollectionResponse.of(this.productSearchIndex.search(productSearchCriteria, pageable));
+	}
+	
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
@@ -45,22 +119,53 @@ public class ProductServiceImpl implements ProductService {
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
+		final var savedProductDto = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.productSearchIndex.index(savedProductDto);
+		this.outboxService.recordUpsert(AppConstant.Outbox.PRODUCTS, savedProductDto.getProductId(), savedProductDto);
+		return savedProductDto;
+	}
+	
+	@Override
+	public List<ProductDto> saveAll(final List<ProductDto> productDtos) {
+		log.info("*** ProductDto List, service; save products batch *");
+		if (productDtos.size() > AppConstant.MAX_BATCH_WRITE_SIZE)
+			throw new IllegalStateException(String.format("Batch of %d products exceeds the limit of %d", 
+					productDtos.size(), AppConstant.MAX_BATCH_WRITE_SIZE));
+		final var savedProductDtos = this.productRepository.saveAll(productDtos
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toList()))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		savedProductDtos.forEach(savedProductDto -> {
+			this.productSearchIndex.index(savedProductDto);
+			this.outboxService.recordUpsert(AppConstant.Outbox.PRODUCTS, savedProductDto.getProductId(), savedProductDto);
+		});
+		return savedProductDtos;
 	}
 	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		final var updatedProductDto = ProductMappingHelper.map(this.productRepository
+				.saveAndFlush(this.versioned(productDto)));
+		this.productSearchIndex.index(updatedProductDto);
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.PRODUCTS, updatedProductDto.getProductId());
+		this.outboxService.recordUpsert(AppConstant.Outbox.PRODUCTS, updatedProductDto.getProductId(), updatedProductDto);
+		return updatedProductDto;
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		final var updatedProductDto = ProductMappingHelper.map(this.productRepository
+				.saveAndFlush(ProductMappingHelper.map(this.findById(productId))));
+		this.productSearchIndex.index(updatedProductDto);
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.PRODUCTS, updatedProductDto.getProductId());
+		this.outboxService.recordUpsert(AppConstant.Outbox.PRODUCTS, updatedProductDto.getProductId(), updatedProductDto);
+		return updatedProductDto;
 	}
 	
 	@Override
@@ -68,6 +173,27 @@ public class ProductServiceImpl implements ProductService {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
+		this.productSearchIndex.remove(productId);
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.PRODUCTS, productId);
+		this.outboxService.recordDeletion(AppConstant.Outbox.PRODUCTS, productId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.PRODUCTS, String.valueOf(productId));
+	}
+	
+	/**
+	 * Updates are checked against the version they were read at. One without a version takes 
+	 * the stored version and quantity, so it can rename or reprice but never overwrite stock 
+	 * moved by reservations in the meantime.
+	 */
+	private Product versioned(final ProductDto productDto) {
+		final var product = ProductMappingHelper.map(productDto);
+		if (productDto.getVersion() == null) {
+			final var current = this.productRepository.findById(productDto.getProductId())
+					.orElseThrow(() -> new ProductNotFoundException(String
+							.format("Product with id: %d not found", productDto.getProductId())));
+			product.setVersion(current.getVersion());
+			product.setQuantity(current.getQuantity());
+		}
+		return product;
 	}
 	
 	
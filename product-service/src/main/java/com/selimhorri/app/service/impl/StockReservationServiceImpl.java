@@ -0,0 +1,195 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.StockReservationProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.domain.StockReservation;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.ReservationNotFoundException;
+import com.selimhorri.app.helper.StockReservationMappingHelper;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.StockReservationRepository;
+import com.selimhorri.app.service.StockReservationService;
+import com.selimhorri.app.service.TableVersionRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves stock between products.quantity and held reservations with conditional updates only, 
+ * so concurrent checkouts can never drive the quantity below zero or lose each other's writes. 
+ * Each transaction is opened inside a per-product gate and touches the product row last: 
+ * callers beyond the gate's permits wait in memory instead of parking pooled connections 
+ * on the same row lock, and the lock is held for one statement and the commit.
+ */
+@Slf4j
+public class StockReservationServiceImpl implements StockReservationService {
+	
+	private final ProductRepository productRepository;
+	private final StockReservationRepository stockReservationRepository;
+	private final TableVersionRegistry tableVersionRegistry;
+	private final TransactionTemplate transactionTemplate;
+	private final StockReservationProperties stockReservationProperties;
+	private final Semaphore[] stripes;
+	
+	public StockReservationServiceImpl(final ProductRepository productRepository, 
+			final StockReservationRepository stockReservationRepository, final TableVersionRegistry tableVersionRegistry, 
+			final TransactionTemplate transactionTemplate, final StockReservationProperties stockReservationProperties) {
+		this.productRepository = productRepository;
+		this.stockReservationRepository = stockReservationRepository;
+		this.tableVersionRegistry = tableVersionRegistry;
+		this.transactionTemplate = transactionTemplate;
+		this.stockReservationProperties = stockReservationProperties;
+		this.stripes = new Semaphore[stockReservationProperties.getStripes()];
+		for (int i = 0; i < this.stripes.length; i++)
+			this.stripes[i] = new Semaphore(stockReservationProperties.getPermitsPerStripe());
+	}
+	
+	@Override
+	public StockReservationDto findById(final String reservationId) {
+		log.info("*** StockReservationDto, service; fetch stock reservation by id *");
+		return StockReservationMappingHelper.map(this.find(reservationId));
+	}
+	
+	@Override
+	public StockReservationDto reserve(final Integer productId, final Integer quantity, final Duration ttl) {
+		log.info("*** StockReservationDto, service; reserve stock *");
+		if (productId == null || quantity == null || quantity <= 0)
+			throw new IllegalStateException("A product id and a positive quantity are required to reserve stock");
+		final var now = Instant.now();
+		final var stockReservation = StockReservation.builder()
+				.reservationId(UUID.randomUUID().toString())
+				.productId(productId)
+				.quantity(quantity)
+				.status(ReservationStatus.HELD)
+				.expiresAt(now.plus(this.holdFor(ttl)))
+				.createdAt(now)
+				.build();
+		return this.gated(productId, status -> {
+			final var saved = this.stockReservationRepository.saveAndFlush(stockReservation);
+			if (this.productRepository.reserveStock(productId, quantity, now) == 0)
+				throw this.productRepository.existsById(productId) 
+						? new InsufficientStockException(String.format("Not enough stock of product with id: %d to reserve %d", 
+								productId, quantity)) 
+						: new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+			this.tableVersionRegistry.touch(AppConstant.ConditionalGet.PRODUCTS);
+			return StockReservationMappingHelper.map(saved);
+		});
+	}
+	
+	@Override
+	public StockReservationDto commit(final String reservationId) {
+		log.info("*** StockReservationDto, service; commit stock reservation *");
+		final var committed = this.transactionTemplate.execute(status -> this.stockReservationRepository
+				.commitHeld(reservationId, Instant.now()));
+		final var stockReservation = this.find(reservationId);
+		if (committed == 0 && stockReservation.getStatus() != ReservationStatus.COMMITTED)
+			throw new IllegalStateException(String.format("Stock reservation with id: %s is %s and can no longer be committed", 
+					reservationId, (stockReservation.getStatus() == ReservationStatus.HELD) ? "expired" 
+							: stockReservation.getStatus().name().toLowerCase()));
+		return StockReservationMappingHelper.map(stockReservation);
+	}
+	
+	@Override
+	public StockReservationDto release(final String reservationId) {
+		log.info("*** StockReservationDto, service; release stock reservation *");
+		final var stockReservation = this.find(reservationId);
+		this.gated(stockReservation.getProductId(), status -> this.releaseHeld(stockReservation, ReservationStatus.RELEASED));
+		final var released = this.find(reservationId);
+		if (released.getStatus() == ReservationStatus.COMMITTED)
+			throw new IllegalStateException(String.format("Stock reservation with id: %s is already committed", reservationId));
+		return StockReservationMappingHelper.map(released);
+	}
+	
+	/**
+	 * Hands the stock of abandoned holds back. Each hold is released in its own transaction 
+	 * through the same guarded transition as an explicit release, so a commit racing the 
+	 * sweeper either wins or finds the hold gone, and several instances can sweep at once.
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${app.stock.reservation.sweep-interval:PT30S}")
+	public int releaseExpired() {
+		final var expired = this.stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(
+				ReservationStatus.HELD, Instant.now(), PageRequest.of(0, this.stockReservationProperties.getSweepBatchSize()));
+		int released = 0;
+		for (final var stockReservation : expired) {
+			try {
+				if (this.gated(stockReservation.getProductId(), 
+						status -> this.releaseHeld(stockReservation, ReservationStatus.EXPIRED)))
+					released++;
+			}
+			catch (RuntimeException e) {
+				log.warn("*** Unable to release expired stock reservation {}, retrying on next sweep: {} *", 
+						stockReservation.getReservationId(), e.toString());
+			}
+		}
+		if (released > 0)
+			log.info("*** Integer, service; released {} expired stock reservations *", released);
+		return released;
+	}
+	
+	private boolean releaseHeld(final StockReservation stockReservation, final ReservationStatus status) {
+		if (this.stockReservationRepository.releaseHeld(stockReservation.getReservationId(), status) == 0)
+			return false;
+		this.productRepository.releaseStock(stockReservation.getProductId(), stockReservation.getQuantity(), Instant.now());
+		this.tableVersionRegistry.touch(AppConstant.ConditionalGet.PRODUCTS);
+		return true;
+	}
+	
+	private Duration holdFor(final Duration ttl) {
+		if (ttl == null || ttl.isNegative() || ttl.isZero())
+			return this.stockReservationProperties.getDefaultTtl();
+		return (ttl.compareTo(this.stockReservationProperties.getMaxTtl()) > 0) 
+				? this.stockReservationProperties.getMaxTtl() : ttl;
+	}
+	
+	private StockReservation find(final String reservationId) {
+		return this.stockReservationRepository.findById(reservationId)
+				.orElseThrow(() -> new ReservationNotFoundException(String
+						.format("Stock reservation with id: %s not found", reservationId)));
+	}
+	
+	private <T> T gated(final Integer productId, final TransactionCallback<T> action) {
+		final var stripe = this.stripes[Math.floorMod(productId.hashCode(), this.stripes.length)];
+		try {
+			if (!stripe.tryAcquire(this.stockReservationProperties.getAcquireTimeout().toNanos(), TimeUnit.NANOSECONDS))
+				throw new CannotAcquireLockException(String.format("Stock of product with id: %d is busy, try again", productId));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CannotAcquireLockException(String.format("Interrupted waiting for stock of product with id: %d", productId), e);
+		}
+		try {
+			return this.transactionTemplate.execute(action);
+		}
+		finally {
+			stripe.release();
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
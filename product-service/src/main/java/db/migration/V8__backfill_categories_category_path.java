@@ -0,0 +1,71 @@
+package db.migration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.selimhorri.app.constant.AppConstant;
+
+public class V8__backfill_categories_category_path extends BaseJavaMigration {
+	
+	@Override
+	public void migrate(final Context context) throws Exception {
+		
+		final Map<Integer, Integer> parentCategoryIds = new HashMap<>();
+		try (final var statement = context.getConnection().createStatement();
+				final var resultSet = statement.executeQuery("SELECT category_id, parent_category_id FROM categories")) {
+			while (resultSet.next()) {
+				final int parentCategoryId = resultSet.getInt("parent_category_id");
+				parentCategoryIds.put(resultSet.getInt("category_id"), resultSet.wasNull() ? null : parentCategoryId);
+			}
+		}
+		
+		final Map<Integer, String> categoryPaths = new HashMap<>();
+		parentCategoryIds.keySet().forEach(categoryId -> resolve(categoryId, parentCategoryIds, categoryPaths, new HashSet<>()));
+		
+		try (final var statement = context.getConnection()
+				.prepareStatement("UPDATE categories SET category_path = ? WHERE category_id = ?")) {
+			for (final var categoryPath : categoryPaths.entrySet()) {
+				statement.setString(1, categoryPath.getValue());
+				statement.setInt(2, categoryPath.getKey());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+		
+	}
+	
+	private static String resolve(final Integer categoryId, final Map<Integer, Integer> parentCategoryIds,
+			final Map<Integer, String> categoryPaths, final Set<Integer> resolving) {
+		
+		final var resolved = categoryPaths.get(categoryId);
+		if (resolved != null)
+			return resolved;
+		if (!resolving.add(categoryId))
+			throw new IllegalStateException(String.format("Category with id: %d is part of a cycle", categoryId));
+		
+		final var parentCategoryId = parentCategoryIds.get(categoryId);
+		final var parentPath = (parentCategoryId == null || !parentCategoryIds.containsKey(parentCategoryId))
+				? AppConstant.CATEGORY_PATH_SEPARATOR
+				: resolve(parentCategoryId, parentCategoryIds, categoryPaths, resolving);
+		final var categoryPath = parentPath + categoryId + AppConstant.CATEGORY_PATH_SEPARATOR;
+		categoryPaths.put(categoryId, categoryPath);
+		return categoryPath;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
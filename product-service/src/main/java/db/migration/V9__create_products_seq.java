@@ -0,0 +1,43 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.selimhorri.app.constant.AppConstant;
+
+public class V9__create_products_seq extends BaseJavaMigration {
+	
+	@Override
+	public void migrate(final Context context) throws Exception {
+		
+		final var connection = context.getConnection();
+		long nextProductId = 1L;
+		try (final var statement = connection.createStatement();
+				final var resultSet = statement.executeQuery("SELECT COALESCE(MAX(product_id), 0) + 1 FROM products")) {
+			if (resultSet.next())
+				nextProductId = resultSet.getLong(1);
+		}
+		
+		// MySQL has no sequences, Hibernate falls back to a single-row table with the same name
+		try (final var statement = connection.createStatement()) {
+			if ("MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+				statement.execute("CREATE TABLE products_seq (next_val BIGINT)");
+				statement.execute("INSERT INTO products_seq (next_val) VALUES (" + nextProductId + ")");
+			}
+			else
+				statement.execute(String.format("CREATE SEQUENCE products_seq START WITH %d INCREMENT BY %d", 
+						nextProductId, AppConstant.PRODUCT_ID_ALLOCATION_SIZE));
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
@@ -0,0 +1,15 @@
+
+ALTER TABLE products ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE stock_reservations (
+	reservation_id VARCHAR(36) NOT NULL PRIMARY KEY,
+	product_id INT(11) NOT NULL,
+	quantity INT(11) NOT NULL,
+	status VARCHAR(16) NOT NULL,
+	expires_at TIMESTAMP NOT NULL,
+	created_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL,
+	version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX idx_stock_reservations_status_expires_at ON stock_reservations (status, expires_at);
+
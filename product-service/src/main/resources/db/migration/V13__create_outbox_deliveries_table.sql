@@ -0,0 +1,11 @@
+
+CREATE TABLE outbox_deliveries (
+	outbox_delivery_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	outbox_event_id BIGINT NOT NULL,
+	subscriber VARCHAR(64) NOT NULL,
+	delivered_at TIMESTAMP NOT NULL,
+	CONSTRAINT uk_outbox_deliveries_event_subscriber UNIQUE (outbox_event_id, subscriber),
+	CONSTRAINT fk_outbox_deliveries_outbox_event_id FOREIGN KEY (outbox_event_id) 
+		REFERENCES outbox_events (outbox_event_id) ON DELETE CASCADE
+);
+
@@ -0,0 +1,6 @@
+
+ALTER TABLE categories
+  ADD COLUMN category_path VARCHAR(512);
+
+CREATE INDEX idx_categories_category_path ON categories (category_path);
+
@@ -0,0 +1,153 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.CategoryTreeSnapshot;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
+import com.selimhorri.app.service.ProductSearchIndex;
+import com.selimhorri.app.service.impl.CategoryServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryServiceImplTest {
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private CategoryTreeSnapshot categoryTreeSnapshot;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
+	@Mock
+	private ProductSearchIndex productSearchIndex;
+
+	@Mock
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@InjectMocks
+	private CategoryServiceImpl categoryService;
+
+	@Test
+	@DisplayName("save - Debe materializar la ruta bajo la categoria padre")
+	void testSave_MaterializesPath() {
+		when(categoryRepository.findCategoryPathById(1)).thenReturn(Optional.of("/1/"));
+		when(categoryRepository.save(any(Category.class))).thenAnswer(i -> {
+			final Category category = i.getArgument(0);
+			category.setCategoryId(7);
+			return category;
+		});
+
+		categoryService.save(CategoryDto.builder()
+				.categoryTitle("Tablets")
+				.parentCategoryDto(CategoryDto.builder().categoryId(1).build())
+				.build());
+
+		verify(categoryRepository).save(argThat(category -> "/1/7/".equals(category.getCategoryPath())));
+		verify(categoryTreeSnapshot, times(1)).refresh();
+	}
+
+	@Test
+	@DisplayName("update - Debe mover el subarbol cuando cambia la categoria padre")
+	void testUpdate_MovesSubtree() {
+		when(categoryRepository.findCategoryPathById(2)).thenReturn(Optional.of("/2/"));
+		when(categoryRepository.findCategoryPathById(4)).thenReturn(Optional.of("/1/4/"));
+		when(categoryRepository.save(any(Category.class))).thenAnswer(i -> i.getArgument(0));
+
+		categoryService.update(CategoryDto.builder()
+				.categoryId(4)
+				.categoryTitle("Laptops")
+				.parentCategoryDto(CategoryDto.builder().categoryId(2).build())
+				.build());
+
+		verify(categoryRepository, times(1)).moveSubtree("/1/4/%", "/2/4/", 6);
+		verify(categoryTreeSnapshot, times(1)).refresh();
+	}
+
+	@Test
+	@DisplayName("update - Debe rechazar mover una categoria dentro de su propio subarbol")
+	void testUpdate_RejectsCycle() {
+		when(categoryRepository.findCategoryPathById(5)).thenReturn(Optional.of("/1/4/5/"));
+		when(categoryRepository.findCategoryPathById(4)).thenReturn(Optional.of("/1/4/"));
+
+		assertThrows(IllegalStateException.class, () -> categoryService.update(CategoryDto.builder()
+				.categoryId(4)
+				.parentCategoryDto(CategoryDto.builder().categoryId(5).build())
+				.build()));
+
+		verify(categoryRepository, never()).save(any(Category.class));
+		verify(categoryTreeSnapshot, never()).refresh();
+	}
+
+	@Test
+	@DisplayName("findAllProducts - Debe retornar productos de la categoria y sus descendientes")
+	void testFindAllProducts_IncludesDescendants() {
+		final var laptops = Category.builder().categoryId(4).categoryTitle("Laptops").build();
+		when(categoryRepository.findCategoryPathById(1)).thenReturn(Optional.of("1/"));
+		when(productRepository.findAllInCategoryTree("1/%")).thenReturn(List.of(
+				Product.builder().productId(1).productTitle("Gaming Laptop").category(laptops).build()));
+
+		List<ProductDto> result = categoryService.findAllProducts(1);
+
+		assertEquals(1, result.size());
+		assertEquals(4, result.get(0).getCategoryDto().getCategoryId());
+		verify(productRepository, times(1)).findAllInCategoryTree("1/%");
+	}
+
+	@Test
+	@DisplayName("findAllProducts - Debe lanzar excepción cuando la categoria no existe")
+	void testFindAllProducts_NotFound() {
+		when(categoryRepository.findCategoryPathById(999)).thenReturn(Optional.empty());
+
+		assertThrows(CategoryNotFoundException.class, () -> categoryService.findAllProducts(999));
+		verify(productRepository, never()).findAllInCategoryTree(anyString());
+	}
+
+	@Test
+	@DisplayName("deleteById - Debe propagar la eliminacion de los productos en cascada")
+	void testDeleteById_RecordsCascadedProductDeletions() {
+		when(categoryRepository.findCategoryPathById(1)).thenReturn(Optional.of("1/"));
+		when(productRepository.findAllInCategoryTree("1/%")).thenReturn(List.of(
+				Product.builder().productId(3).build(),
+				Product.builder().productId(8).build()));
+
+		categoryService.deleteById(1);
+
+		verify(categoryRepository, times(1)).deleteById(1);
+		for (final int productId : List.of(3, 8)) {
+			verify(productSearchIndex, times(1)).remove(productId);
+			verify(cacheInvalidationPublisher, times(1)).publish(AppConstant.RemoteCache.PRODUCTS, productId);
+			verify(outboxService, times(1)).recordDeletion(AppConstant.Outbox.PRODUCTS, productId);
+			verify(changeFeedService, times(1)).recordDeletion(AppConstant.ChangeFeed.PRODUCTS, String.valueOf(productId));
+		}
+		verify(categoryTreeSnapshot, times(1)).refresh();
+	}
+}
@@ -0,0 +1,119 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.projection.CategoryNode;
+import com.selimhorri.app.service.impl.CategoryTreeSnapshotImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeSnapshotImplTest {
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@InjectMocks
+	private CategoryTreeSnapshotImpl categoryTreeSnapshot;
+
+	@BeforeEach
+	void setUp() {
+		when(categoryRepository.findAllNodes()).thenReturn(List.of(
+				node(1, "Computer", null, "/1/"),
+				node(4, "Laptops", 1, "/1/4/"),
+				node(2, "Game", null, "/2/"),
+				node(5, "Gaming Laptops", 4, "/1/4/5/"),
+				node(3, "Desktops", 1, "/1/3/")));
+	}
+
+	@Test
+	@DisplayName("findAll - Debe retornar categorias con su padre sin consultas adicionales")
+	void testFindAll_WithParents() {
+		List<CategoryDto> result = categoryTreeSnapshot.findAll();
+
+		assertEquals(List.of(1, 2, 3, 4, 5), result.stream()
+				.map(CategoryDto::getCategoryId)
+				.collect(Collectors.toList()));
+		assertNull(result.get(0).getParentCategoryDto().getCategoryId());
+		assertEquals("Laptops", result.get(4).getParentCategoryDto().getCategoryTitle());
+		verify(categoryRepository, times(1)).findAllNodes();
+	}
+
+	@Test
+	@DisplayName("findSubtree - Debe retornar el subarbol completo de la categoria")
+	void testFindSubtree_Nested() {
+		CategoryDto result = categoryTreeSnapshot.findSubtree(1);
+
+		assertEquals(List.of(3, 4), result.getSubCategoriesDtos().stream()
+				.map(CategoryDto::getCategoryId)
+				.collect(Collectors.toList()));
+		final var laptops = result.getSubCategoriesDtos().stream()
+				.filter(c -> c.getCategoryId() == 4)
+				.findFirst()
+				.orElseThrow();
+		assertEquals(5, laptops.getSubCategoriesDtos().iterator().next().getCategoryId());
+		assertTrue(laptops.getSubCategoriesDtos().iterator().next().getSubCategoriesDtos().isEmpty());
+	}
+
+	@Test
+	@DisplayName("findSubtree - Debe lanzar excepción cuando la categoria no existe")
+	void testFindSubtree_NotFound() {
+		assertThrows(CategoryNotFoundException.class, () -> categoryTreeSnapshot.findSubtree(999));
+	}
+
+	@Test
+	@DisplayName("rebuild - Debe reemplazar el snapshot con el estado actual")
+	void testRebuild_ReplacesSnapshot() {
+		categoryTreeSnapshot.findAll();
+		when(categoryRepository.findAllNodes()).thenReturn(List.of(node(2, "Game", null, "/2/")));
+
+		categoryTreeSnapshot.refresh();
+
+		assertEquals(1, categoryTreeSnapshot.findAll().size());
+		verify(categoryRepository, times(2)).findAllNodes();
+	}
+
+	private static CategoryNode node(final Integer categoryId, final String categoryTitle,
+			final Integer parentCategoryId, final String categoryPath) {
+		return new CategoryNode() {
+
+			@Override
+			public Integer getCategoryId() {
+				return categoryId;
+			}
+
+			@Override
+			public String getCategoryTitle() {
+				return categoryTitle;
+			}
+
+			@Override
+			public String getImageUrl() {
+				return null;
+			}
+
+			@Override
+			public Integer getParentCategoryId() {
+				return parentCategoryId;
+			}
+
+			@Override
+			public String getCategoryPath() {
+				return categoryPath;
+			}
+		};
+	}
+}
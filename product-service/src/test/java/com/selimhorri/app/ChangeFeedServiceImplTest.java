@@ -0,0 +1,148 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.config.changes.ChangeFeedProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ChangeType;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.domain.Tombstone;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.TombstoneRepository;
+import com.selimhorri.app.service.ChangeFeedService.ChangeSource;
+import com.selimhorri.app.service.impl.ChangeFeedServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceImplTest {
+
+	private static final Instant BASE = Instant.now().minusSeconds(60);
+
+	@Mock
+	private TombstoneRepository tombstoneRepository;
+
+	private ChangeFeedServiceImpl changeFeedService;
+
+	private final List<Product> products = new ArrayList<>();
+	private final List<Tombstone> tombstones = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		changeFeedService = new ChangeFeedServiceImpl(tombstoneRepository, new ChangeFeedProperties());
+		lenient().when(tombstoneRepository.findChanged(eq(AppConstant.ChangeFeed.PRODUCTS), any(Instant.class), any(Instant.class), any(Pageable.class)))
+				.thenAnswer(invocation -> within(tombstones, Tombstone::getDeletedAt, 
+						invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+	}
+
+	@Test
+	@DisplayName("findChanges - Debe intercalar upserts y tombstones por instante")
+	void testFindChanges_MergesUpsertsAndTombstones() {
+		product(1, 1);
+		tombstone(2, 2);
+		product(3, 3);
+
+		final var response = findChanges(Instant.EPOCH, 10);
+
+		assertEquals(List.of(1, 2, 3), ids(response));
+		assertEquals(ChangeType.DELETED, List.copyOf(response.getCollection()).get(1).getChangeType());
+		assertFalse(response.getHasNext());
+		assertEquals(BASE.plusMillis(3).toString(), response.getNextCursor());
+	}
+
+	@Test
+	@DisplayName("findChanges - No debe cortar una pagina dentro de un mismo instante")
+	void testFindChanges_TrimsTrailingInstant() {
+		product(1, 1);
+		product(2, 2);
+		product(3, 2);
+		product(4, 3);
+
+		final var first = findChanges(Instant.EPOCH, 2);
+		final var second = findChanges(Instant.parse(first.getNextCursor()), 2);
+
+		assertEquals(List.of(1), ids(first));
+		assertTrue(first.getHasNext());
+		assertEquals(List.of(2, 3), ids(second));
+		assertEquals(BASE.plusMillis(2).toString(), second.getNextCursor());
+	}
+
+	@Test
+	@DisplayName("findChanges - Debe devolver completo un instante mayor que la pagina")
+	void testFindChanges_ReturnsWholeInstantLargerThanPage() {
+		product(1, 1);
+		product(2, 1);
+		tombstone(3, 1);
+		product(4, 2);
+
+		final var response = findChanges(Instant.EPOCH, 2);
+
+		assertEquals(List.of(1, 2, 3), ids(response));
+		assertTrue(response.getHasNext());
+		assertEquals(BASE.plusMillis(1).toString(), response.getNextCursor());
+	}
+
+	@Test
+	@DisplayName("findChanges - Debe conservar el watermark cuando no hay cambios asentados")
+	void testFindChanges_NothingSettled() {
+		final var since = Instant.now();
+
+		final var response = findChanges(since, 10);
+
+		assertTrue(response.getCollection().isEmpty());
+		assertEquals(since.toString(), response.getNextCursor());
+		verifyNoInteractions(tombstoneRepository);
+	}
+
+	private DtoCollectionResponse<ChangeDto<Integer>> findChanges(final Instant since, final int limit) {
+		final ChangeSource<Product> changeSource = (from, until, pageable) -> 
+				within(products, Product::getUpdatedAt, from, until, pageable);
+		return changeFeedService.findChanges(AppConstant.ChangeFeed.PRODUCTS, since, limit, 
+				changeSource, Product::getProductId, Integer::valueOf);
+	}
+
+	private void product(final int productId, final long millis) {
+		final var product = Product.builder().productId(productId).build();
+		product.setUpdatedAt(BASE.plusMillis(millis));
+		products.add(product);
+	}
+
+	private void tombstone(final int productId, final long millis) {
+		tombstones.add(Tombstone.builder()
+				.entityType(AppConstant.ChangeFeed.PRODUCTS)
+				.entityKey(String.valueOf(productId))
+				.deletedAt(BASE.plusMillis(millis))
+				.build());
+	}
+
+	private static <T> List<T> within(final List<T> rows, final Function<T, Instant> timestamp, 
+			final Instant since, final Instant until, final Pageable pageable) {
+		return rows.stream()
+				.filter(row -> timestamp.apply(row).isAfter(since) && !timestamp.apply(row).isAfter(until))
+				.limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+				.collect(Collectors.toList());
+	}
+
+	private static List<Integer> ids(final DtoCollectionResponse<ChangeDto<Integer>> response) {
+		return response.getCollection()
+				.stream()
+				.map(ChangeDto::getItem)
+				.collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterChain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.selimhorri.app.config.etag.ConditionalGetFilter;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetFilterTest {
+
+	@Mock
+	private FilterChain filterChain;
+
+	private final AtomicReference<String> version = new AtomicReference<>("3@2024-01-01T00:00:00Z#0");
+
+	private ConditionalGetFilter conditionalGetFilter;
+
+	@BeforeEach
+	void setUp() {
+		conditionalGetFilter = new ConditionalGetFilter(Map.of("/api/products/{productId:\\d+}", version::get), 
+				"public, max-age=0, stale-while-revalidate=5");
+	}
+
+	@Test
+	@DisplayName("doFilter - Debe responder 304 sin invocar el handler cuando el ETag coincide")
+	void testDoFilter_NotModified() throws Exception {
+		MockHttpServletResponse first = filter(get("/product-service/api/products/1"));
+		String eTag = first.getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletRequest revalidation = get("/product-service/api/products/1");
+		revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"other\", " + eTag);
+		MockHttpServletResponse second = filter(revalidation);
+
+		assertNotNull(eTag);
+		assertEquals(304, second.getStatus());
+		assertEquals(eTag, second.getHeader(HttpHeaders.ETAG));
+		assertEquals("public, max-age=0, stale-while-revalidate=5", second.getHeader(HttpHeaders.CACHE_CONTROL));
+		verify(filterChain, times(1)).doFilter(any(), any());
+	}
+
+	@Test
+	@DisplayName("doFilter - Debe generar un ETag nuevo cuando cambia la version de la tabla")
+	void testDoFilter_VersionChanged() throws Exception {
+		String eTag = filter(get("/product-service/api/products/1")).getHeader(HttpHeaders.ETAG);
+		version.set("3@2024-01-01T00:00:00Z#1");
+
+		MockHttpServletRequest revalidation = get("/product-service/api/products/1");
+		revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+		MockHttpServletResponse response = filter(revalidation);
+
+		assertEquals(200, response.getStatus());
+		assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+		verify(filterChain, times(2)).doFilter(any(), any());
+	}
+
+	@Test
+	@DisplayName("doFilter - Debe ignorar rutas sin version asociada")
+	void testDoFilter_UnversionedPath() throws Exception {
+		MockHttpServletResponse response = filter(get("/product-service/api/products/changes"));
+
+		assertNull(response.getHeader(HttpHeaders.ETAG));
+		verify(filterChain, times(1)).doFilter(any(), any());
+	}
+
+	private MockHttpServletRequest get(final String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setContextPath("/product-service");
+		return request;
+	}
+
+	private MockHttpServletResponse filter(final MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		conditionalGetFilter.doFilter(request, response, filterChain);
+		return response;
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.ProductSearchCriteria;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.impl.ProductSearchIndexImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexImplTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@InjectMocks
+	private ProductSearchIndexImpl productSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		final var electronics = Category.builder().categoryId(1).categoryTitle("Electronics").build();
+		final var books = Category.builder().categoryId(2).categoryTitle("Books").build();
+		when(productRepository.streamAll()).thenReturn(Stream.of(
+				Product.builder().productId(1).productTitle("Gaming Laptop").sku("LAP-1").priceUnit(1500.0).quantity(5).category(electronics).build(),
+				Product.builder().productId(2).productTitle("Office Laptop").sku("LAP-2").priceUnit(700.0).quantity(8).category(electronics).build(),
+				Product.builder().productId(3).productTitle("Wireless Mouse").sku("MOU-1").priceUnit(25.0).quantity(50).category(electronics).build(),
+				Product.builder().productId(4).productTitle("Laptop Repair Guide").sku("BOO-1").priceUnit(30.0).quantity(12).category(books).build()));
+		productSearchIndex.rebuild();
+	}
+
+	@Test
+	@DisplayName("search - Debe filtrar por categoria, rango de precio y texto")
+	void testSearch_CombinedFilters() {
+		Page<ProductDto> result = productSearchIndex.search(ProductSearchCriteria.builder()
+				.categoryId(1)
+				.minPrice(100.0)
+				.query("lap")
+				.build(), Pageable.unpaged());
+
+		assertEquals(List.of(1, 2), ids(result));
+	}
+
+	@Test
+	@DisplayName("search - Debe filtrar solo por rango de precio")
+	void testSearch_PriceRange() {
+		Page<ProductDto> result = productSearchIndex.search(ProductSearchCriteria.builder()
+				.minPrice(20.0)
+				.maxPrice(700.0)
+				.build(), PageRequest.of(0, 10, Sort.by("priceUnit")));
+
+		assertEquals(List.of(3, 4, 2), ids(result));
+	}
+
+	@Test
+	@DisplayName("search - Debe ordenar y paginar los resultados")
+	void testSearch_SortedPage() {
+		Page<ProductDto> result = productSearchIndex.search(new ProductSearchCriteria(),
+				PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "priceUnit")));
+
+		assertEquals(4, result.getTotalElements());
+		assertEquals(List.of(4, 3), ids(result));
+	}
+
+	@Test
+	@DisplayName("index - Debe reflejar altas y bajas sin reconstruir el indice")
+	void testIndexAndRemove() {
+		productSearchIndex.index(ProductDto.builder().productId(5).productTitle("Laptop Stand").priceUnit(40.0).build());
+		productSearchIndex.remove(1);
+
+		Page<ProductDto> result = productSearchIndex.search(ProductSearchCriteria.builder().query("laptop").build(),
+				PageRequest.of(0, 10, Sort.by("productId")));
+
+		assertEquals(List.of(2, 4, 5), ids(result));
+		verify(productRepository, times(1)).streamAll();
+	}
+
+	@Test
+	@DisplayName("rebuild - No debe perder las bajas y altas aplicadas mientras se reconstruye")
+	void testRebuild_ReplaysWritesDuringRebuild() {
+		final var electronics = Category.builder().categoryId(1).categoryTitle("Electronics").build();
+		// the stream has already read product 1 when it is deleted and product 6 is created
+		when(productRepository.streamAll()).thenReturn(Stream.of(
+				Product.builder().productId(1).productTitle("Gaming Laptop").priceUnit(1500.0).category(electronics).build(),
+				Product.builder().productId(2).productTitle("Office Laptop").priceUnit(700.0).category(electronics).build())
+				.peek(product -> {
+					if (product.getProductId() == 2) {
+						productSearchIndex.remove(1);
+						productSearchIndex.index(ProductDto.builder().productId(6).productTitle("Laptop Sleeve").priceUnit(20.0).build());
+					}
+				}));
+
+		productSearchIndex.rebuild();
+
+		Page<ProductDto> result = productSearchIndex.search(ProductSearchCriteria.builder().query("laptop").build(),
+				PageRequest.of(0, 10, Sort.by("productId")));
+		assertEquals(List.of(2, 6), ids(result));
+	}
+
+	@Test
+	@DisplayName("search - Debe rechazar propiedades de orden no soportadas")
+	void testSearch_UnsupportedSort() {
+		assertThrows(IllegalStateException.class, () -> productSearchIndex.search(new ProductSearchCriteria(),
+				PageRequest.of(0, 10, Sort.by("imageUrl"))));
+	}
+
+	private static List<Integer> ids(final Page<ProductDto> page) {
+		return page.getContent().stream()
+				.map(ProductDto::getProductId)
+				.collect(Collectors.toList());
+	}
+}
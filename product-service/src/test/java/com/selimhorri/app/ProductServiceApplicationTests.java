@@ -3,12 +3,19 @@ package com.selimhorri.app;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +42,12 @@ class ProductServiceApplicationTests {
 	@Autowired
 	private ProductServiceImpl productService;
 
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	private Product product;
 	private Category category;
 
@@ -135,10 +148,44 @@ class ProductServiceApplicationTests {
 		assertFalse(productRepository.existsById(saved.getProductId()));
 		assertThrows(ProductNotFoundException.class, () -> productService.findById(saved.getProductId()));
 	}
-}
-
-
-
 
+	@Test
+	@DisplayName("findAll - Debe ejecutar un numero constante de sentencias SQL sin importar el volumen")
+	void testFindAll_Integration_ConstantStatementCount() {
+		saveProducts(2);
+		final long fewProductsStatements = countStatements(() -> productService.findAll());
+		final long fewProductsPageStatements = countStatements(() -> productService.findAll(PageRequest.of(0, 50), null, false));
+
+		saveProducts(30);
+		final long manyProductsStatements = countStatements(() -> productService.findAll());
+		final long manyProductsPageStatements = countStatements(() -> productService.findAll(PageRequest.of(0, 50), null, false));
+
+		assertEquals(1, fewProductsStatements);
+		assertEquals(fewProductsStatements, manyProductsStatements);
+		assertEquals(1, fewProductsPageStatements);
+		assertEquals(fewProductsPageStatements, manyProductsPageStatements);
+	}
 
+	private void saveProducts(final int count) {
+		IntStream.range(0, count).forEach(i -> productRepository.save(Product.builder()
+				.productTitle("Product " + i)
+				.sku("SKU-" + i)
+				.priceUnit(10.00 + i)
+				.quantity(i)
+				.category(categoryRepository.save(Category.builder()
+						.categoryTitle("Category " + i)
+						.parentCategory(category)
+						.build()))
+				.build()));
+	}
 
+	private long countStatements(final Runnable action) {
+		entityManager.flush();
+		entityManager.clear();
+		final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
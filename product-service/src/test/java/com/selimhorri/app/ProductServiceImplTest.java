@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,13 +16,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.projection.ProductView;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
+import com.selimhorri.app.service.ProductSearchIndex;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +43,18 @@ class ProductServiceImplTest {
 	@Mock
 	private ProductRepository productRepository;
 
+	@Mock
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	@Mock
+	private ProductSearchIndex productSearchIndex;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
 	@InjectMocks
 	private ProductServiceImpl productService;
 
@@ -75,14 +101,45 @@ class ProductServiceImplTest {
 	@Test
 	@DisplayName("findAll - Debe retornar lista de productos")
 	void testFindAll_Success() {
-		when(productRepository.findAll()).thenReturn(List.of(product));
+		when(productRepository.findAllViews()).thenReturn(List.of(view(product)));
 
 		List<ProductDto> result = productService.findAll();
 
 		assertNotNull(result);
 		assertEquals(1, result.size());
 		assertEquals("Laptop", result.get(0).getProductTitle());
-		verify(productRepository, times(1)).findAll();
+		assertEquals("Electronics", result.get(0).getCategoryDto().getCategoryTitle());
+		verify(productRepository, times(1)).findAllViews();
+		verify(productRepository, never()).findAll();
+	}
+
+	@Test
+	@DisplayName("findAll - Debe paginar sin consulta de conteo cuando count es falso")
+	void testFindAll_PageWithoutCount() {
+		final var pageable = PageRequest.of(0, 1);
+		when(productRepository.findViewSlice(pageable)).thenReturn(new SliceImpl<>(List.of(view(product)), pageable, true));
+
+		DtoCollectionResponse<ProductDto> result = productService.findAll(pageable, null, false);
+
+		assertEquals(1, result.getCollection().size());
+		assertTrue(result.getHasNext());
+		assertNull(result.getTotalElements());
+		verify(productRepository, never()).count();
+		verify(productRepository, never()).findAll(any(Pageable.class));
+		verify(productRepository, never()).findAllViews(any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("findAll - Debe retornar cursor del ultimo elemento en paginacion keyset")
+	void testFindAll_KeysetCursor() {
+		final var pageable = PageRequest.of(0, 1, Sort.by("productId"));
+		when(productRepository.findViewsByProductIdGreaterThan(0, pageable))
+				.thenReturn(new SliceImpl<>(List.of(view(product)), pageable, true));
+
+		DtoCollectionResponse<ProductDto> result = productService.findAll(PageRequest.of(0, 1), 0, false);
+
+		assertEquals("1", result.getNextCursor());
+		assertEquals("Laptop", result.getCollection().iterator().next().getProductTitle());
 	}
 
 	@Test
@@ -120,6 +177,26 @@ class ProductServiceImplTest {
 		verify(productRepository, times(1)).save(any(Product.class));
 	}
 
+	@Test
+	@DisplayName("saveAll - Debe guardar el lote con una sola llamada al repositorio")
+	void testSaveAll_SingleRepositoryCall() {
+		when(productRepository.saveAll(anyIterable())).thenReturn(List.of(product, product));
+
+		List<ProductDto> result = productService.saveAll(List.of(productDto, productDto));
+
+		assertEquals(2, result.size());
+		verify(productRepository, times(1)).saveAll(anyIterable());
+		verify(productRepository, never()).save(any(Product.class));
+	}
+
+	@Test
+	@DisplayName("saveAll - Debe rechazar lotes que superan el limite")
+	void testSaveAll_OversizedBatch() {
+		assertThrows(IllegalStateException.class, () -> productService
+				.saveAll(Collections.nCopies(AppConstant.MAX_BATCH_WRITE_SIZE + 1, productDto)));
+		verifyNoInteractions(productRepository);
+	}
+
 	@Test
 	@DisplayName("deleteById - Debe eliminar producto por ID")
 	void testDeleteById_Success() {
@@ -130,5 +207,19 @@ class ProductServiceImplTest {
 
 		verify(productRepository, times(1)).findById(1);
 		verify(productRepository, times(1)).delete(any(Product.class));
+		verify(changeFeedService, times(1)).recordDeletion(AppConstant.ChangeFeed.PRODUCTS, "1");
+	}
+
+	private static ProductView view(final Product product) {
+		return new SpelAwareProxyProjectionFactory().createProjection(ProductView.class, Map.of(
+				"productId", product.getProductId(),
+				"productTitle", product.getProductTitle(),
+				"imageUrl", product.getImageUrl(),
+				"sku", product.getSku(),
+				"priceUnit", product.getPriceUnit(),
+				"quantity", product.getQuantity(),
+				"categoryId", product.getCategory().getCategoryId(),
+				"categoryTitle", product.getCategory().getCategoryTitle(),
+				"categoryImageUrl", product.getCategory().getImageUrl()));
 	}
 }
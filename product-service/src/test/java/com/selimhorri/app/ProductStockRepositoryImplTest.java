@@ -0,0 +1,78 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.ProductStockRepositoryImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockRepositoryImplTest {
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private Cache cache;
+
+	@Mock
+	private Query query;
+
+	@SuppressWarnings("rawtypes")
+	private NativeQuery nativeQuery;
+
+	private ProductStockRepositoryImpl productStockRepository;
+
+	@BeforeEach
+	void setUp() {
+		nativeQuery = mock(NativeQuery.class, RETURNS_SELF);
+		when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+		when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+		productStockRepository = new ProductStockRepositoryImpl(entityManager);
+	}
+
+	@Test
+	@DisplayName("reserveStock - Debe desalojar solo el producto reservado de la cache de segundo nivel")
+	void testReserveStock_EvictsOnlyReservedProduct() {
+		when(nativeQuery.executeUpdate()).thenReturn(1);
+		when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+		when(entityManagerFactory.getCache()).thenReturn(cache);
+
+		assertEquals(1, productStockRepository.reserveStock(1, 3, Instant.now()));
+
+		verify(nativeQuery, never()).addSynchronizedQuerySpace("products");
+		verify(nativeQuery, never()).addSynchronizedEntityClass(any());
+		verify(cache, times(1)).evict(Product.class, 1);
+		verify(cache, never()).evict(Product.class);
+		verify(cache, never()).evictAll();
+	}
+
+	@Test
+	@DisplayName("reserveStock - No debe tocar la cache cuando no hay stock suficiente")
+	void testReserveStock_NoEvictionWhenRejected() {
+		when(nativeQuery.executeUpdate()).thenReturn(0);
+
+		assertEquals(0, productStockRepository.reserveStock(1, 30, Instant.now()));
+
+		verifyNoInteractions(cache);
+	}
+}
@@ -0,0 +1,121 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.StockReservationProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.domain.StockReservation;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.StockReservationRepository;
+import com.selimhorri.app.service.TableVersionRegistry;
+import com.selimhorri.app.service.impl.StockReservationServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceImplTest {
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private StockReservationRepository stockReservationRepository;
+
+	@Mock
+	private TableVersionRegistry tableVersionRegistry;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private StockReservationServiceImpl stockReservationService;
+
+	@BeforeEach
+	void setUp() {
+		stockReservationService = new StockReservationServiceImpl(productRepository, stockReservationRepository,
+				tableVersionRegistry, new TransactionTemplate(transactionManager), new StockReservationProperties());
+	}
+
+	@Test
+	@DisplayName("reserve - Debe descontar el stock con una actualizacion condicional")
+	void testReserve_Success() {
+		when(stockReservationRepository.saveAndFlush(any(StockReservation.class))).thenAnswer(i -> i.getArgument(0));
+		when(productRepository.reserveStock(eq(1), eq(3), any(Instant.class))).thenReturn(1);
+
+		StockReservationDto result = stockReservationService.reserve(1, 3, Duration.ofMinutes(5));
+
+		assertNotNull(result.getReservationId());
+		assertEquals(ReservationStatus.HELD, result.getStatus());
+		assertEquals(3, result.getQuantity());
+		assertTrue(result.getExpiresAt().isAfter(Instant.now()));
+		verify(tableVersionRegistry, times(1)).touch(AppConstant.ConditionalGet.PRODUCTS);
+		verify(transactionManager, times(1)).commit(any());
+	}
+
+	@Test
+	@DisplayName("reserve - Debe rechazar la reserva y deshacerla cuando no hay stock suficiente")
+	void testReserve_InsufficientStock() {
+		when(stockReservationRepository.saveAndFlush(any(StockReservation.class))).thenAnswer(i -> i.getArgument(0));
+		when(productRepository.reserveStock(eq(1), eq(30), any(Instant.class))).thenReturn(0);
+		when(productRepository.existsById(1)).thenReturn(true);
+
+		assertThrows(InsufficientStockException.class, () -> stockReservationService.reserve(1, 30, null));
+
+		verify(transactionManager, times(1)).rollback(any());
+		verify(tableVersionRegistry, never()).touch(anyString());
+	}
+
+	@Test
+	@DisplayName("commit - No debe confirmar una reserva expirada")
+	void testCommit_Expired() {
+		when(stockReservationRepository.commitHeld(eq("r-1"), any(Instant.class))).thenReturn(0);
+		when(stockReservationRepository.findById("r-1")).thenReturn(Optional.of(reservation("r-1", ReservationStatus.HELD)));
+
+		assertThrows(IllegalStateException.class, () -> stockReservationService.commit("r-1"));
+	}
+
+	@Test
+	@DisplayName("releaseExpired - Debe devolver el stock solo de las reservas que sigue reteniendo")
+	void testReleaseExpired_ReturnsStock() {
+		when(stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(eq(ReservationStatus.HELD),
+				any(Instant.class), any(Pageable.class)))
+				.thenReturn(List.of(reservation("r-1", ReservationStatus.HELD), reservation("r-2", ReservationStatus.HELD)));
+		when(stockReservationRepository.releaseHeld("r-1", ReservationStatus.EXPIRED)).thenReturn(1);
+		when(stockReservationRepository.releaseHeld("r-2", ReservationStatus.EXPIRED)).thenReturn(0);
+
+		int released = stockReservationService.releaseExpired();
+
+		assertEquals(1, released);
+		verify(productRepository, times(1)).releaseStock(eq(1), eq(2), any(Instant.class));
+	}
+
+	private static StockReservation reservation(final String reservationId, final ReservationStatus status) {
+		return StockReservation.builder()
+				.reservationId(reservationId)
+				.productId(1)
+				.quantity(2)
+				.status(status)
+				.expiresAt(Instant.now().minusSeconds(60))
+				.createdAt(Instant.now().minusSeconds(120))
+				.version(0L)
+				.build();
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.repository.projection.TableVersion;
+import com.selimhorri.app.service.impl.TableVersionRegistryImpl;
+
+@ExtendWith(MockitoExtension.class)
+class TableVersionRegistryImplTest {
+
+	private static final Instant UPDATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+	@Mock
+	private Supplier<TableVersion> productsSource;
+
+	private TableVersionRegistryImpl tableVersionRegistry;
+
+	@BeforeEach
+	void setUp() {
+		tableVersionRegistry = new TableVersionRegistryImpl(Map.of(AppConstant.ConditionalGet.PRODUCTS, productsSource));
+		when(productsSource.get()).thenReturn(tableVersion(3L, UPDATED_AT));
+	}
+
+	@Test
+	@DisplayName("versionOf - Debe calcular la huella una sola vez y reutilizarla")
+	void testVersionOf_Precomputed() {
+		String first = tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS);
+		String second = tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS);
+
+		assertEquals("3@2024-01-01T00:00:00Z#0", first);
+		assertEquals(first, second);
+		verify(productsSource, times(1)).get();
+	}
+
+	@Test
+	@DisplayName("touch - Debe cambiar la version tras una escritura local")
+	void testTouch_BumpsVersion() {
+		String before = tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS);
+
+		tableVersionRegistry.touch(AppConstant.ConditionalGet.PRODUCTS);
+		tableVersionRegistry.touch("outbox_events");
+
+		assertNotEquals(before, tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS));
+	}
+
+	@Test
+	@DisplayName("refresh - Debe recoger escrituras de otras instancias")
+	void testRefresh_PicksUpRemoteWrites() {
+		String before = tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS);
+		when(productsSource.get()).thenReturn(tableVersion(4L, UPDATED_AT.plusSeconds(1)));
+
+		tableVersionRegistry.refresh();
+
+		assertNotEquals(before, tableVersionRegistry.versionOf(AppConstant.ConditionalGet.PRODUCTS));
+		assertThrows(IllegalArgumentException.class, () -> tableVersionRegistry.versionOf("unknown"));
+	}
+
+	private static TableVersion tableVersion(final Long rowCount, final Instant lastUpdatedAt) {
+		return new TableVersion() {
+			@Override
+			public Long getRowCount() {
+				return rowCount;
+			}
+			@Override
+			public Instant getLastUpdatedAt() {
+				return lastUpdatedAt;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+	
+	private JwtUtilImpl jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	private Claims claims;
+	
+	@Setup
+	public void setUp() {
+		this.jwtUtil = new JwtUtilImpl();
+		this.userDetails = User.withUsername("selimhorri")
+				.password("password")
+				.roles("USER")
+				.build();
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+		this.claims = this.jwtUtil.extractAllClaims(this.token);
+	}
+	
+	@Benchmark
+	public String generateToken() {
+		return this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public Claims parseToken() {
+		return this.jwtUtil.extractAllClaims(this.token);
+	}
+	
+	@Benchmark
+	public Boolean validateToken() {
+		return this.jwtUtil.validateToken(this.token, this.userDetails);
+	}
+	
+	@Benchmark
+	public Boolean validateParsedClaims() {
+		return this.jwtUtil.validateToken(this.claims, this.userDetails);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,45 @@
+package com.selimhorri.app.business.checkout.controller;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.checkout.model.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.CheckoutService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/checkout")
+@RequiredArgsConstructor
+public class CheckoutController {
+	
+	private final CheckoutService checkoutService;
+	
+	@PostMapping
+	public ResponseEntity<CheckoutResponse> checkout(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CheckoutRequest checkoutRequest) {
+		return ResponseEntity.ok(this.checkoutService.checkout(checkoutRequest));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,50 @@
+package com.selimhorri.app.business.checkout.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CheckoutRequest implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("order")
+	@NotNull(message = "Order must not be NULL!")
+	@Valid
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	@NotEmpty(message = "Order items must not be empty!")
+	private List<@Valid OrderItemDto> orderItemDtos;
+	
+	@JsonProperty("payment")
+	private PaymentDto paymentDto;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,157 @@
+package com.selimhorri.app.business.checkout.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.checkout.model.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.CheckoutService;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.PaymentStatus;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.config.checkout.CheckoutProperties;
+import com.selimhorri.app.exception.wrapper.CheckoutFailedException;
+import com.selimhorri.app.exception.wrapper.CheckoutTimeoutException;
+
+import feign.FeignException.FeignClientException;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class CheckoutServiceImpl implements CheckoutService {
+	
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ExecutorService checkoutExecutor;
+	private final CheckoutProperties checkoutProperties;
+	
+	public CheckoutServiceImpl(final OrderClientService orderClientService, 
+			final OrderItemClientService orderItemClientService, final PaymentClientService paymentClientService, 
+			@Qualifier("checkoutExecutor") final ExecutorService checkoutExecutor, 
+			final CheckoutProperties checkoutProperties) {
+		this.orderClientService = orderClientService;
+		this.orderItemClientService = orderItemClientService;
+		this.paymentClientService = paymentClientService;
+		this.checkoutExecutor = checkoutExecutor;
+		this.checkoutProperties = checkoutProperties;
+	}
+	
+	/**
+	 * Creates the order first, since items and payment need its id, then creates 
+	 * the items (one batch call) and the payment in parallel. If either of them fails 
+	 * or times out, every step that did (or later does) succeed is undone. A request rejected 
+	 * by a service keeps its 4xx, any other failure is reported as a gateway error.
+	 */
+	@Override
+	public CheckoutResponse checkout(final CheckoutRequest checkoutRequest) {
+		
+		log.info("** CheckoutResponse, checkout service*\n");
+		final var orderDto = this.orderClientService.save(checkoutRequest.getOrderDto()).getBody();
+		final var orderId = orderDto.getOrderId();
+		
+		final var orderItemsFuture = CompletableFuture.supplyAsync(() -> 
+				this.saveOrderItems(orderId, checkoutRequest.getOrderItemDtos()), this.checkoutExecutor);
+		final var paymentFuture = CompletableFuture.supplyAsync(() -> 
+				this.savePayment(orderDto, checkoutRequest.getPaymentDto()), this.checkoutExecutor);
+		
+		try {
+			CompletableFuture.allOf(orderItemsFuture, paymentFuture)
+					.get(this.checkoutProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			return CheckoutResponse.builder()
+					.orderDto(orderDto)
+					.orderItemDtos(orderItemsFuture.join())
+					.paymentDto(paymentFuture.join())
+					.build();
+		}
+		catch (ExecutionException e) {
+			this.compensate(orderId, orderItemsFuture, paymentFuture);
+			if (e.getCause() instanceof FeignClientException)
+				throw (FeignClientException) e.getCause();
+			throw new CheckoutFailedException(String.format("Checkout of order with id: %d failed and was rolled back", 
+					orderId), e.getCause());
+		}
+		catch (TimeoutException e) {
+			this.compensate(orderId, orderItemsFuture, paymentFuture);
+			throw new CheckoutTimeoutException(String.format("Checkout of order with id: %d timed out and was rolled back", 
+					orderId), e);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.compensate(orderId, orderItemsFuture, paymentFuture);
+			throw new CheckoutFailedException(String.format("Checkout of order with id: %d was interrupted", orderId), e);
+		}
+	}
+	
+	private List<OrderItemDto> saveOrderItems(final Integer orderId, final List<OrderItemDto> orderItemDtos) {
+		final var saved = this.orderItemClientService.saveAll(orderItemDtos
+				.stream()
+					.map(orderItemDto -> OrderItemDto.builder()
+							.orderId(orderId)
+							.productId(orderItemDto.getProductId())
+							.orderedQuantity(orderItemDto.getOrderedQuantity())
+							.build())
+					.collect(Collectors.toList()))
+				.getBody();
+		return new ArrayList<>(saved.getCollection());
+	}
+	
+	private PaymentDto savePayment(final OrderDto orderDto, final PaymentDto paymentDto) {
+		return this.paymentClientService.save(PaymentDto.builder()
+				.isPayed((paymentDto == null || paymentDto.getIsPayed() == null) ? false : paymentDto.getIsPayed())
+				.paymentStatus((paymentDto == null || paymentDto.getPaymentStatus() == null) ? 
+						PaymentStatus.NOT_STARTED : paymentDto.getPaymentStatus())
+				.orderDto(com.selimhorri.app.business.payment.model.OrderDto.builder()
+						.orderId(orderDto.getOrderId())
+						.build())
+				.build())
+				.getBody();
+	}
+	
+	private void compensate(final Integer orderId, final CompletableFuture<List<OrderItemDto>> orderItemsFuture, 
+			final CompletableFuture<PaymentDto> paymentFuture) {
+		log.info("** Void, compensate checkout of order with id: {}*\n", orderId);
+		// steps still in flight are undone as soon as they complete
+		orderItemsFuture.thenAccept(orderItemDtos -> orderItemDtos.forEach(orderItemDto -> this.quietly(() -> 
+				this.orderItemClientService.deleteById(String.valueOf(orderItemDto.getOrderId()), 
+						String.valueOf(orderItemDto.getProductId())))));
+		paymentFuture.thenAccept(paymentDto -> this.quietly(() -> 
+				this.paymentClientService.deleteById(String.valueOf(paymentDto.getPaymentId()))));
+		this.quietly(() -> this.orderClientService.deleteById(String.valueOf(orderId)));
+	}
+	
+	private void quietly(final Runnable compensation) {
+		try {
+			compensation.run();
+		}
+		catch (RuntimeException e) {
+			log.error("** Void, checkout compensation step failed*\n", e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
 import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.config.collapser.RequestCollapser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 	
 	private final OrderClientService orderClientService;
+	private final RequestCollapser<String, OrderDto> orderCollapser;
 	
 	@GetMapping
 	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll() {
@@ -37,7 +39,8 @@ public class OrderController {
 			@PathVariable("orderId") 
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String orderId) {
-		return ResponseEntity.ok(this.orderClientService.findById(orderId).getBody());
+		return ResponseEntity.ok(this.orderCollapser.get(orderId, 
+				() -> this.orderClientService.findById(orderId).getBody()));
 	}
 	
 	@PostMapping
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.orderItem.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -39,6 +41,12 @@ public interface OrderItemClientService {
 			@NotNull(message = "Input must not be NULL") 
 			@Valid final OrderItemDto orderItemDto);
 	
+	@PostMapping("/batch")
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<OrderItemDto> orderItemDtos);
+	
 	@PutMapping
 	ResponseEntity<OrderItemDto> update(
 			@RequestBody 
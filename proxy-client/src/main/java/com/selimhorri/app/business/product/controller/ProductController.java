@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.product.model.ProductDto;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.collapser.RequestCollapser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class ProductController {
 	
 	private final ProductClientService productClientService;
+	private final RequestCollapser<String, ProductDto> productCollapser;
 	
 	@GetMapping
 	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
@@ -30,7 +32,8 @@ public class ProductController {
 	
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.findById(productId).getBody());
+		return ResponseEntity.ok(this.productCollapser.get(productId, 
+				() -> this.productClientService.findById(productId).getBody()));
 	}
 	
 	@PostMapping
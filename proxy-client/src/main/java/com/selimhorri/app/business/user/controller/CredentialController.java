@@ -1,6 +1,7 @@
 package com.selimhorri.app.business.user.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final LoadingCache<String, UserDetails> userDetailsCache;
 	
 	@GetMapping
 	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
@@ -45,17 +48,31 @@ public class CredentialController {
 	
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final var updatedCredentialDto = this.credentialClientService.update(credentialDto).getBody();
+		this.evictUserDetails(credentialDto);
+		this.evictUserDetails(updatedCredentialDto);
+		return ResponseEntity.ok(updatedCredentialDto);
 	}
 	
 	@PutMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final var updatedCredentialDto = this.credentialClientService.update(credentialDto).getBody();
+		this.evictUserDetails(credentialDto);
+		this.evictUserDetails(updatedCredentialDto);
+		return ResponseEntity.ok(updatedCredentialDto);
 	}
 	
 	@DeleteMapping("/{credentialId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+		final var credentialDto = this.credentialClientService.findById(credentialId).getBody();
+		final var deleted = this.credentialClientService.deleteById(credentialId).getBody();
+		this.evictUserDetails(credentialDto);
+		return ResponseEntity.ok(deleted);
+	}
+	
+	private void evictUserDetails(final CredentialDto credentialDto) {
+		if (credentialDto != null && credentialDto.getUsername() != null)
+			this.userDetailsCache.invalidate(credentialDto.getUsername());
 	}
 	
 	
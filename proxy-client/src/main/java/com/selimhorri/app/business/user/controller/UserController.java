@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.UserClientService;
+import com.selimhorri.app.config.collapser.RequestCollapser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 	
 	private final UserClientService userClientService;
+	private final RequestCollapser<String, UserDto> userCollapser;
 	
 	@GetMapping
 	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll() {
@@ -30,7 +32,8 @@ public class UserController {
 	
 	@GetMapping("/{userId}")
 	public ResponseEntity<UserDto> findById(@PathVariable("userId") final String userId) {
-		return ResponseEntity.ok(this.userClientService.findById(userId).getBody());
+		return ResponseEntity.ok(this.userCollapser.get(userId, 
+				() -> this.userClientService.findById(userId).getBody()));
 	}
 	
 	@GetMapping("/username/{username}")
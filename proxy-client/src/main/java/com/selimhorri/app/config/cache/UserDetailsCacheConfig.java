@@ -0,0 +1,44 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class UserDetailsCacheConfig {
+	
+	private final UserDetailsCacheProperties userDetailsCacheProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Bean
+	public LoadingCache<String, UserDetails> userDetailsCacheBean(final UserDetailsService userDetailsService) {
+		return CaffeineCacheMetrics.monitor(this.meterRegistry, Caffeine.newBuilder()
+				.maximumSize(this.userDetailsCacheProperties.getMaximumSize())
+				.expireAfterWrite(this.userDetailsCacheProperties.getExpireAfterWrite())
+				.recordStats()
+				.<String, UserDetails>build(userDetailsService::loadUserByUsername), 
+				"userDetails");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache.user-details")
+@Data
+public class UserDetailsCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration expireAfterWrite = Duration.ofMinutes(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.checkout;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class CheckoutConfig {
+	
+	/**
+	 * Bounded pool and queue; once both are full the request thread runs the step itself, 
+	 * which slows checkout intake down instead of queueing without limit.
+	 */
+	@Bean(name = "checkoutExecutor", destroyMethod = "shutdown")
+	public ExecutorService checkoutExecutorBean(final CheckoutProperties checkoutProperties, 
+			final MeterRegistry meterRegistry) {
+		return ExecutorServiceMetrics.monitor(meterRegistry, new ThreadPoolExecutor(
+				checkoutProperties.getParallelism(), checkoutProperties.getParallelism(), 0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<>(checkoutProperties.getQueueCapacity()), 
+				new CustomizableThreadFactory("checkout-"), new ThreadPoolExecutor.CallerRunsPolicy()), "checkout");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.checkout;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.checkout")
+@Data
+public class CheckoutProperties {
+	
+	private int parallelism = 16;
+	private int queueCapacity = 100;
+	private Duration timeout = Duration.ofSeconds(10);
+	
+}
+
+
+
+
+
+
+
+
+
+
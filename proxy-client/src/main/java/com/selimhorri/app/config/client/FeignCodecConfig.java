@@ -0,0 +1,45 @@
+package com.selimhorri.app.config.client;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+
+import feign.RequestInterceptor;
+import feign.codec.ErrorDecoder;
+
+@Configuration
+public class FeignCodecConfig {
+	
+	private static final String SMILE_FIRST_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+	
+	/**
+	 * Asks downstream services for Smile, falling back to JSON on services without the converter. 
+	 * Responses are decoded by the Smile converter Boot registers once jackson-dataformat-smile 
+	 * is on the classpath, and the Apache client negotiates gzip on its own.
+	 */
+	@Bean
+	public RequestInterceptor smileAcceptRequestInterceptorBean(final HttpClientProperties httpClientProperties) {
+		return template -> {
+			if (httpClientProperties.isPreferSmile() && !template.headers().containsKey(HttpHeaders.ACCEPT))
+				template.header(HttpHeaders.ACCEPT, SMILE_FIRST_ACCEPT);
+		};
+	}
+	
+	@Bean
+	public ErrorDecoder smileErrorDecoderBean() {
+		return new SmileErrorDecoder();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
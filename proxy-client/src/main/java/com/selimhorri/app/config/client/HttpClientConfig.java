@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.cache.CacheConfig;
+import org.apache.http.impl.client.cache.CachingHttpClients;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+@Configuration
+public class HttpClientConfig {
+	
+	@Bean
+	public PoolingHttpClientConnectionManager httpClientConnectionManagerBean(final HttpClientProperties httpClientProperties, 
+			final MeterRegistry meterRegistry) {
+		final var connectionManager = new PoolingHttpClientConnectionManager(
+				httpClientProperties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(httpClientProperties.getMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxPerRoute());
+		connectionManager.setValidateAfterInactivity((int) httpClientProperties.getValidateAfterInactivity().toMillis());
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "remote-client").bindTo(meterRegistry);
+		return connectionManager;
+	}
+	
+	@Bean
+	public CloseableHttpClient httpClientBean(final PoolingHttpClientConnectionManager httpClientConnectionManager, 
+			final HttpClientProperties httpClientProperties) {
+		return CachingHttpClients.custom()
+				.setCacheConfig(CacheConfig.custom()
+						.setMaxCacheEntries(httpClientProperties.getCacheMaxEntries())
+						.setMaxObjectSize(httpClientProperties.getCacheMaxObjectSize().toBytes())
+						.setSharedCache(false)
+						.build())
+				.setConnectionManager(httpClientConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) httpClientProperties.getConnectTimeout().toMillis())
+						.setSocketTimeout((int) httpClientProperties.getReadTimeout().toMillis())
+						.setConnectionRequestTimeout((int) httpClientProperties.getConnectionRequestTimeout().toMillis())
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(httpClientProperties.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
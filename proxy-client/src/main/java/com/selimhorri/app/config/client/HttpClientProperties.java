@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.client.http")
+@Data
+public class HttpClientProperties {
+	
+	private int maxTotal = 200;
+	private int maxPerRoute = 50;
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration readTimeout = Duration.ofSeconds(5);
+	private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+	private Duration timeToLive = Duration.ofMinutes(5);
+	private Duration maxIdleTime = Duration.ofSeconds(30);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	private int cacheMaxEntries = 1000;
+	private DataSize cacheMaxObjectSize = DataSize.ofKilobytes(256);
+	private boolean preferSmile = true;
+	
+}
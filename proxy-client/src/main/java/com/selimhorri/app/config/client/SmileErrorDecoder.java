@@ -0,0 +1,85 @@
+package com.selimhorri.app.config.client;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import feign.Response;
+import feign.Util;
+import feign.codec.ErrorDecoder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Error bodies are relayed to API callers through FeignException#contentUTF8, 
+ * so Smile error bodies are transcoded back to JSON before the default decoding.
+ */
+@Slf4j
+public class SmileErrorDecoder implements ErrorDecoder {
+	
+	private static final String SMILE = "application/x-jackson-smile";
+	
+	private final ErrorDecoder delegate = new ErrorDecoder.Default();
+	private final ObjectMapper smileMapper = new SmileMapper();
+	private final ObjectMapper jsonMapper = new JsonMapper();
+	
+	@Override
+	public Exception decode(final String methodKey, final Response response) {
+		if (response.body() == null || !isSmile(response))
+			return this.delegate.decode(methodKey, response);
+		
+		final var headers = new TreeMap<String, Collection<String>>(String.CASE_INSENSITIVE_ORDER);
+		headers.putAll(response.headers());
+		byte[] body;
+		try {
+			body = Util.toByteArray(response.body().asInputStream());
+		}
+		catch (IOException e) {
+			return this.delegate.decode(methodKey, response);
+		}
+		
+		try {
+			body = this.jsonMapper.writeValueAsBytes(this.smileMapper.readTree(body));
+			headers.put(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE));
+		}
+		catch (IOException e) {
+			log.warn("*** Unable to transcode Smile error body of {}: {} *", methodKey, e.toString());
+		}
+		
+		return this.delegate.decode(methodKey, response.toBuilder()
+				.headers(headers)
+				.body(body)
+				.build());
+	}
+	
+	private static boolean isSmile(final Response response) {
+		return response.headers()
+				.entrySet()
+				.stream()
+					.filter(entry -> HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(entry.getKey()))
+					.map(Map.Entry::getValue)
+					.flatMap(Collection::stream)
+					.anyMatch(value -> value.startsWith(SMILE));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
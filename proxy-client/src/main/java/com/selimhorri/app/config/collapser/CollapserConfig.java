@@ -0,0 +1,117 @@
+package com.selimhorri.app.config.collapser;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.business.user.model.UserDto;
+import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.service.UserClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class CollapserConfig implements DisposableBean {
+	
+	private static final Pattern NUMERIC_ID = Pattern.compile("\\d{1,9}");
+	
+	private final CollapserProperties collapserProperties;
+	private final MeterRegistry meterRegistry;
+	private final ScheduledExecutorService collapserScheduler;
+	private final ExecutorService collapserDispatcher;
+	
+	public CollapserConfig(final CollapserProperties collapserProperties, final MeterRegistry meterRegistry) {
+		this.collapserProperties = collapserProperties;
+		this.meterRegistry = meterRegistry;
+		// owned by this configuration and shut down in destroy(), nothing else is handed these threads
+		this.collapserScheduler = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newSingleThreadScheduledExecutor(
+				new CustomizableThreadFactory("collapser-timer-")), "collapser.timer");
+		this.collapserDispatcher = ExecutorServiceMetrics.monitor(meterRegistry, new ThreadPoolExecutor(
+				collapserProperties.getParallelism(), collapserProperties.getParallelism(), 0L, TimeUnit.MILLISECONDS, 
+				new ArrayBlockingQueue<>(collapserProperties.getQueueCapacity()), 
+				new CustomizableThreadFactory("collapser-")), "collapser");
+	}
+	
+	@Bean
+	public RequestCollapser<String, ProductDto> productCollapserBean(final ProductClientService productClientService) {
+		return this.collapser("products", productClientService::findAllByIds, 
+				ProductProductServiceCollectionDtoResponse::getCollection, ProductDto::getProductId);
+	}
+	
+	@Bean
+	public RequestCollapser<String, UserDto> userCollapserBean(final UserClientService userClientService) {
+		return this.collapser("users", userClientService::findAllByIds, 
+				UserUserServiceCollectionDtoResponse::getCollection, UserDto::getUserId);
+	}
+	
+	@Bean
+	public RequestCollapser<String, OrderDto> orderCollapserBean(final OrderClientService orderClientService) {
+		return this.collapser("orders", orderClientService::findAllByIds, 
+				OrderOrderServiceDtoCollectionResponse::getCollection, OrderDto::getOrderId);
+	}
+	
+	@Override
+	public void destroy() {
+		this.collapserScheduler.shutdown();
+		this.collapserDispatcher.shutdown();
+	}
+	
+	/**
+	 * Path ids arrive as strings; only numeric ones go into the bulk call, the rest come back 
+	 * missing and fall through to the single lookup.
+	 */
+	private <V, R> RequestCollapser<String, V> collapser(final String name, 
+			final Function<List<Integer>, ResponseEntity<R>> bulkLookup, final Function<R, Collection<V>> collection, 
+			final Function<V, Integer> idOf) {
+		return new RequestCollapser<>(name, keys -> {
+			final var ids = keys.stream()
+					.filter(key -> NUMERIC_ID.matcher(key).matches())
+					.map(Integer::valueOf)
+					.collect(Collectors.toList());
+			if (ids.isEmpty())
+				return Map.of();
+			final var response = bulkLookup.apply(ids).getBody();
+			if (response == null || collection.apply(response) == null)
+				return Map.of();
+			return collection.apply(response)
+					.stream()
+						.collect(Collectors.toMap(v -> String.valueOf(idOf.apply(v)), Function.identity(), (a, b) -> a));
+		}, this.collapserProperties.getWindow(), this.collapserProperties.getMaxBatchSize(), 
+				this.collapserScheduler, this.collapserDispatcher, this.meterRegistry);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,30 @@
+package com.selimhorri.app.config.collapser;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.client.collapser")
+@Data
+public class CollapserProperties {
+	
+	private Duration window = Duration.ofMillis(5);
+	private int maxBatchSize = 50;
+	private int parallelism = 8;
+	private int queueCapacity = 100;
+	
+}
+
+
+
+
+
+
+
+
+
+
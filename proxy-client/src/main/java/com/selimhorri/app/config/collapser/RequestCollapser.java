@@ -0,0 +1,153 @@
+package com.selimhorri.app.config.collapser;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds single-key lookups for a short window, or until the batch is full, and resolves the 
+ * whole batch with one bulk call. Keys asked for again inside the same window share a future. 
+ * The scheduler only closes windows; bulk calls run on the dispatcher, so a slow remote call 
+ * cannot hold back the timers of other batches.
+ */
+@Slf4j
+public class RequestCollapser<K, V> {
+	
+	private final String name;
+	private final Function<Set<K>, Map<K, V>> bulkLookup;
+	private final Duration window;
+	private final int maxBatchSize;
+	private final ScheduledExecutorService scheduler;
+	private final Executor dispatcher;
+	private final DistributionSummary batchSize;
+	private final Timer delay;
+	private final Object lock = new Object();
+	private Batch current;
+	
+	public RequestCollapser(final String name, final Function<Set<K>, Map<K, V>> bulkLookup, final Duration window, 
+			final int maxBatchSize, final ScheduledExecutorService scheduler, final Executor dispatcher, 
+			final MeterRegistry meterRegistry) {
+		this.name = name;
+		this.bulkLookup = bulkLookup;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+		this.scheduler = scheduler;
+		this.dispatcher = dispatcher;
+		this.batchSize = DistributionSummary.builder("proxy.client.collapser.batch.size")
+				.tag("name", name)
+				.register(meterRegistry);
+		this.delay = Timer.builder("proxy.client.collapser.delay")
+				.tag("name", name)
+				.register(meterRegistry);
+	}
+	
+	public CompletableFuture<V> submit(final K key) {
+		final CompletableFuture<V> future;
+		Batch full = null;
+		synchronized (this.lock) {
+			if (this.current == null) {
+				final var batch = new Batch();
+				batch.timer = this.scheduler.schedule(() -> this.flush(batch), this.window.toNanos(), TimeUnit.NANOSECONDS);
+				this.current = batch;
+			}
+			future = this.current.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+			if (this.current.futures.size() >= this.maxBatchSize) {
+				full = this.current;
+				this.current = null;
+			}
+		}
+		if (full != null) {
+			full.timer.cancel(false);
+			this.dispatch(full);
+		}
+		return future;
+	}
+	
+	/**
+	 * Blocking variant for controllers. Keys the bulk call does not return go through the 
+	 * single lookup, so not-found errors still come from the owning service.
+	 */
+	public V get(final K key, final Supplier<V> singleLookup) {
+		final V value;
+		try {
+			value = this.submit(key).join();
+		}
+		catch (CompletionException e) {
+			throw (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : e;
+		}
+		return (value != null) ? value : singleLookup.get();
+	}
+	
+	private void flush(final Batch batch) {
+		synchronized (this.lock) {
+			if (this.current != batch)
+				return;
+			this.current = null;
+		}
+		this.dispatch(batch);
+	}
+	
+	/**
+	 * A batch the dispatcher has no room for resolves to nothing, which sends each caller 
+	 * through its single lookup instead of queueing behind the bulk calls already running.
+	 */
+	private void dispatch(final Batch batch) {
+		try {
+			this.dispatcher.execute(() -> this.lookup(batch));
+		}
+		catch (RejectedExecutionException e) {
+			log.warn("*** {}, collapser; dispatcher saturated, {} keys fall back to single lookups *", 
+					this.name, batch.futures.size());
+			batch.futures.values().forEach(future -> future.complete(null));
+		}
+	}
+	
+	private void lookup(final Batch batch) {
+		this.batchSize.record(batch.futures.size());
+		this.delay.record(System.nanoTime() - batch.openedAt, TimeUnit.NANOSECONDS);
+		try {
+			final var values = this.bulkLookup.apply(batch.futures.keySet());
+			batch.futures.forEach((key, future) -> future.complete(values.get(key)));
+		}
+		catch (RuntimeException e) {
+			log.warn("*** {}, collapser; bulk lookup of {} keys failed: {} *", this.name, batch.futures.size(), e.toString());
+			batch.futures.values().forEach(future -> future.completeExceptionally(e));
+		}
+	}
+	
+	private final class Batch {
+		
+		private final long openedAt = System.nanoTime();
+		private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+		private ScheduledFuture<?> timer;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
+import com.selimhorri.app.exception.wrapper.CheckoutFailedException;
+import com.selimhorri.app.exception.wrapper.CheckoutTimeoutException;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
@@ -86,6 +88,36 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = CheckoutFailedException.class)
+	public ResponseEntity<ExceptionMsg> handleCheckoutFailedException(final CheckoutFailedException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle checkout failed exception*\n");
+		final var badGateway = HttpStatus.BAD_GATEWAY;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(badGateway)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), badGateway);
+	}
+	
+	@ExceptionHandler(value = CheckoutTimeoutException.class)
+	public ResponseEntity<ExceptionMsg> handleCheckoutTimeoutException(final CheckoutTimeoutException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle checkout timeout exception*\n");
+		final var gatewayTimeout = HttpStatus.GATEWAY_TIMEOUT;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(gatewayTimeout)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), gatewayTimeout);
+	}
+	
 	
 	
 }
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class CheckoutTimeoutException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public CheckoutTimeoutException() {
+		super();
+	}
+	
+	public CheckoutTimeoutException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public CheckoutTimeoutException(String message) {
+		super(message);
+	}
+	
+	public CheckoutTimeoutException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
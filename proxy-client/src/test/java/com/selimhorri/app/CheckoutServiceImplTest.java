@@ -0,0 +1,124 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.checkout.model.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.impl.CheckoutServiceImpl;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.config.checkout.CheckoutProperties;
+import com.selimhorri.app.exception.wrapper.CheckoutFailedException;
+import com.selimhorri.app.exception.wrapper.CheckoutTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class CheckoutServiceImplTest {
+
+	@Mock
+	private OrderClientService orderClientService;
+
+	@Mock
+	private OrderItemClientService orderItemClientService;
+
+	@Mock
+	private PaymentClientService paymentClientService;
+
+	private CheckoutProperties checkoutProperties;
+	private ExecutorService checkoutExecutor;
+	private CheckoutServiceImpl checkoutService;
+	private CheckoutRequest checkoutRequest;
+
+	@BeforeEach
+	void setUp() {
+		checkoutProperties = new CheckoutProperties();
+		checkoutProperties.setTimeout(Duration.ofSeconds(5));
+		checkoutExecutor = Executors.newFixedThreadPool(2);
+		checkoutService = new CheckoutServiceImpl(orderClientService, orderItemClientService, paymentClientService,
+				checkoutExecutor, checkoutProperties);
+		checkoutRequest = CheckoutRequest.builder()
+				.orderDto(OrderDto.builder().orderDesc("Test Order").orderFee(100.00).build())
+				.orderItemDtos(List.of(
+						OrderItemDto.builder().productId(1).orderedQuantity(2).build(),
+						OrderItemDto.builder().productId(2).orderedQuantity(1).build()))
+				.build();
+		when(orderClientService.save(any(OrderDto.class)))
+				.thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(7).orderDesc("Test Order").build()));
+		when(orderItemClientService.saveAll(anyList()))
+				.thenAnswer(i -> ResponseEntity.ok(new OrderItemOrderItemServiceDtoCollectionResponse(i.getArgument(0))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		checkoutExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("checkout - Debe crear orden, items en lote y pago")
+	void testCheckout_Success() {
+		when(paymentClientService.save(any(PaymentDto.class)))
+				.thenReturn(ResponseEntity.ok(PaymentDto.builder().paymentId(3).isPayed(false).build()));
+
+		CheckoutResponse result = checkoutService.checkout(checkoutRequest);
+
+		assertEquals(7, result.getOrderDto().getOrderId());
+		assertEquals(2, result.getOrderItemDtos().size());
+		assertEquals(7, result.getOrderItemDtos().get(0).getOrderId());
+		assertEquals(3, result.getPaymentDto().getPaymentId());
+		verify(orderItemClientService, times(1)).saveAll(anyList());
+		verify(orderItemClientService, never()).save(any(OrderItemDto.class));
+		verify(orderClientService, never()).deleteById(anyString());
+	}
+
+	@Test
+	@DisplayName("checkout - Debe compensar los pasos exitosos cuando el pago falla")
+	void testCheckout_PaymentFailureCompensates() {
+		when(paymentClientService.save(any(PaymentDto.class))).thenThrow(new RuntimeException("payment-service down"));
+
+		assertThrows(CheckoutFailedException.class, () -> checkoutService.checkout(checkoutRequest));
+
+		verify(orderItemClientService, times(1)).deleteById("7", "1");
+		verify(orderItemClientService, times(1)).deleteById("7", "2");
+		verify(orderClientService, times(1)).deleteById("7");
+		verify(paymentClientService, never()).deleteById(anyString());
+	}
+
+	@Test
+	@DisplayName("checkout - Debe reportar un timeout de gateway y compensar cuando el pago no responde")
+	void testCheckout_PaymentTimeoutCompensates() {
+		checkoutProperties.setTimeout(Duration.ofMillis(100));
+		final var release = new CountDownLatch(1);
+		when(paymentClientService.save(any(PaymentDto.class))).thenAnswer(i -> {
+			release.await(5, TimeUnit.SECONDS);
+			return ResponseEntity.ok(PaymentDto.builder().paymentId(3).isPayed(false).build());
+		});
+
+		assertThrows(CheckoutTimeoutException.class, () -> checkoutService.checkout(checkoutRequest));
+		release.countDown();
+
+		verify(orderClientService, times(1)).deleteById("7");
+		verify(paymentClientService, timeout(5000).times(1)).deleteById("3");
+	}
+}
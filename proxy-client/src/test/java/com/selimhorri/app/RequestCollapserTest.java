@@ -0,0 +1,156 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.collapser.RequestCollapser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestCollapserTest {
+
+	private final List<Set<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+	private ScheduledExecutorService executor;
+	private ExecutorService dispatcher;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newScheduledThreadPool(2);
+		dispatcher = Executors.newFixedThreadPool(2);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		dispatcher.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("submit - Debe agrupar las consultas de la ventana en una sola llamada masiva")
+	void testSubmit_CollapsesWindow() {
+		RequestCollapser<String, String> collapser = collapser(Duration.ofMillis(50), 10,
+				keys -> keys.stream().collect(Collectors.toMap(k -> k, k -> "v" + k)));
+
+		CompletableFuture<String> first = collapser.submit("1");
+		CompletableFuture<String> second = collapser.submit("2");
+		CompletableFuture<String> repeated = collapser.submit("1");
+
+		assertEquals("v1", first.join());
+		assertEquals("v2", second.join());
+		assertSame(first, repeated);
+		assertEquals(List.of(Set.of("1", "2")), batches);
+		assertEquals(2.0, meterRegistry.get("proxy.client.collapser.batch.size").summary().totalAmount());
+	}
+
+	@Test
+	@DisplayName("submit - Debe despachar el lote en cuanto alcanza el tamano maximo")
+	void testSubmit_DispatchesFullBatch() {
+		RequestCollapser<String, String> collapser = collapser(Duration.ofMinutes(1), 2,
+				keys -> keys.stream().collect(Collectors.toMap(k -> k, k -> "v" + k)));
+
+		CompletableFuture<String> first = collapser.submit("1");
+		CompletableFuture<String> second = collapser.submit("2");
+
+		assertEquals("v1", first.join());
+		assertEquals("v2", second.join());
+		assertEquals(1, batches.size());
+	}
+
+	@Test
+	@DisplayName("get - Debe usar la consulta individual para claves que no devuelve el lote")
+	void testGet_FallsBackToSingleLookup() {
+		RequestCollapser<String, String> collapser = collapser(Duration.ofMillis(1), 10, keys -> Map.of());
+
+		assertEquals("single", collapser.get("404", () -> "single"));
+	}
+
+	@Test
+	@DisplayName("get - Debe propagar el error de la llamada masiva a cada solicitante")
+	void testGet_PropagatesBulkFailure() {
+		RequestCollapser<String, String> collapser = collapser(Duration.ofMillis(1), 10, keys -> {
+			throw new IllegalStateException("down");
+		});
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> collapser.get("1", () -> "single"));
+		assertEquals("down", e.getMessage());
+	}
+
+	@Test
+	@DisplayName("submit - Una llamada masiva lenta no debe retrasar el cierre de la siguiente ventana")
+	void testSubmit_SlowBulkLookupDoesNotDelayNextWindow() throws Exception {
+		final var timer = Executors.newSingleThreadScheduledExecutor();
+		final var slowStarted = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		try {
+			final var collapser = new RequestCollapser<String, String>("test", keys -> {
+				if (keys.contains("slow")) {
+					slowStarted.countDown();
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return keys.stream().collect(Collectors.toMap(k -> k, k -> "v" + k));
+			}, Duration.ofMillis(10), 10, timer, dispatcher, meterRegistry);
+
+			final var slow = collapser.submit("slow");
+			assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+			final var fast = collapser.submit("2");
+
+			assertEquals("v2", fast.get(1, TimeUnit.SECONDS));
+			assertFalse(slow.isDone());
+			release.countDown();
+			assertEquals("vslow", slow.get(5, TimeUnit.SECONDS));
+		}
+		finally {
+			release.countDown();
+			timer.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("get - Debe usar la consulta individual cuando el despachador esta saturado")
+	void testGet_FallsBackWhenDispatcherSaturated() {
+		final var collapser = new RequestCollapser<String, String>("test", keys -> Map.of("1", "bulk"), 
+				Duration.ofMillis(1), 10, executor, command -> {
+					throw new RejectedExecutionException("full");
+				}, meterRegistry);
+
+		assertEquals("single", collapser.get("1", () -> "single"));
+	}
+
+	private RequestCollapser<String, String> collapser(final Duration window, final int maxBatchSize,
+			final Function<Set<String>, Map<String, String>> bulkLookup) {
+		return new RequestCollapser<>("test", keys -> {
+			batches.add(new HashSet<>(keys));
+			return bulkLookup.apply(keys);
+		}, window, maxBatchSize, executor, dispatcher, meterRegistry);
+	}
+
+}
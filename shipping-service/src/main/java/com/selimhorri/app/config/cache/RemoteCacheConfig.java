@@ -0,0 +1,75 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.service.OrderReplicaService;
+import com.selimhorri.app.service.ProductReplicaService;
+import com.selimhorri.app.service.RemoteClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class RemoteCacheConfig {
+	
+	private final RemoteCacheProperties remoteCacheProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Bean
+	public AsyncLoadingCache<Integer, ProductDto> productDtoCacheBean(final RemoteClientService remoteClientService, 
+			final ProductReplicaService productReplicaService) {
+		// the local replicas answer for every row they hold, the remote call only for the rest
+		final var cache = this.caffeine()
+				.<Integer, ProductDto>buildAsync((productId, executor) -> CompletableFuture
+						.supplyAsync(() -> productReplicaService.findById(productId), executor)
+						.thenCompose(productDto -> productDto.map(CompletableFuture::completedFuture)
+								.orElseGet(() -> remoteClientService.get(AppConstant.DiscoveredDomainsApi
+										.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class).toFuture())));
+		CaffeineCacheMetrics.monitor(this.meterRegistry, cache.synchronous(), AppConstant.RemoteCache.PRODUCTS);
+		return cache;
+	}
+	
+	@Bean
+	public AsyncLoadingCache<Integer, OrderDto> orderDtoCacheBean(final RemoteClientService remoteClientService, 
+			final OrderReplicaService orderReplicaService) {
+		final var cache = this.caffeine()
+				.<Integer, OrderDto>buildAsync((orderId, executor) -> CompletableFuture
+						.supplyAsync(() -> orderReplicaService.findById(orderId), executor)
+						.thenCompose(orderDto -> orderDto.map(CompletableFuture::completedFuture)
+								.orElseGet(() -> remoteClientService.get(AppConstant.DiscoveredDomainsApi
+										.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class).toFuture())));
+		CaffeineCacheMetrics.monitor(this.meterRegistry, cache.synchronous(), AppConstant.RemoteCache.ORDERS);
+		return cache;
+	}
+	
+	private Caffeine<Object, Object> caffeine() {
+		return Caffeine.newBuilder()
+				.maximumSize(this.remoteCacheProperties.getMaximumSize())
+				.expireAfterWrite(this.remoteCacheProperties.getExpireAfterWrite())
+				.refreshAfterWrite(this.remoteCacheProperties.getRefreshAfterWrite())
+				.recordStats();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,16 @@
+package com.selimhorri.app.config.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.replica.sync")
+@Data
+public class ReplicaSyncProperties {
+	
+	private int pageSize = 500;
+	private int maxPages = 20;
+	
+}
@@ -0,0 +1,63 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Local copy of an order header, fed by order-service outbox events. Deleted orders are 
+ * kept as tombstones so that a late redelivery of an older event cannot resurrect them.
+ */
+@Entity
+@Table(name = "order_replicas")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderReplica implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "order_id", unique = true, nullable = false, updatable = false)
+	private Integer orderId;
+	
+	@Column(name = "order_date")
+	private LocalDateTime orderDate;
+	
+	@Column(name = "order_desc")
+	private String orderDesc;
+	
+	@Column(name = "order_fee", columnDefinition = "decimal")
+	private Double orderFee;
+	
+	@Column(name = "is_deleted", nullable = false)
+	private boolean deleted;
+	
+	@Column(name = "last_event_id", nullable = false)
+	private Long lastEventId;
+	
+	@Column(name = "changed_at")
+	private Instant changedAt;
+	
+}
+
+
+
+
+
+
+
+
+
+
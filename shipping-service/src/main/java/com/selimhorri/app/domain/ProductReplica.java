@@ -0,0 +1,64 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Local summary of a product, fed by product-service outbox events, see {@link OrderReplica}.
+ */
+@Entity
+@Table(name = "product_replicas")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductReplica implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "product_id", unique = true, nullable = false, updatable = false)
+	private Integer productId;
+	
+	@Column(name = "product_title")
+	private String productTitle;
+	
+	@Column(name = "image_url")
+	private String imageUrl;
+	
+	@Column(name = "sku")
+	private String sku;
+	
+	@Column(name = "price_unit", columnDefinition = "decimal")
+	private Double priceUnit;
+	
+	@Column(name = "is_deleted", nullable = false)
+	private boolean deleted;
+	
+	@Column(name = "last_event_id", nullable = false)
+	private Long lastEventId;
+	
+	@Column(name = "changed_at")
+	private Instant changedAt;
+	
+}
+
+
+
+
+
+
+
+
+
+
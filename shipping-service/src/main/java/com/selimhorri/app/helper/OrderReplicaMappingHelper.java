@@ -0,0 +1,27 @@
+package com.selimhorri.app.helper;
+
+import com.selimhorri.app.domain.OrderReplica;
+import com.selimhorri.app.dto.OrderDto;
+
+public interface OrderReplicaMappingHelper {
+	
+	public static OrderDto map(final OrderReplica orderReplica) {
+		return OrderDto.builder()
+				.orderId(orderReplica.getOrderId())
+				.orderDate(orderReplica.getOrderDate())
+				.orderDesc(orderReplica.getOrderDesc())
+				.orderFee(orderReplica.getOrderFee())
+				.build();
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
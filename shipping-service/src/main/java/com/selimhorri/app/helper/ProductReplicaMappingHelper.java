@@ -0,0 +1,28 @@
+package com.selimhorri.app.helper;
+
+import com.selimhorri.app.domain.ProductReplica;
+import com.selimhorri.app.dto.ProductDto;
+
+public interface ProductReplicaMappingHelper {
+	
+	public static ProductDto map(final ProductReplica productReplica) {
+		return ProductDto.builder()
+				.productId(productReplica.getProductId())
+				.productTitle(productReplica.getProductTitle())
+				.imageUrl(productReplica.getImageUrl())
+				.sku(productReplica.getSku())
+				.priceUnit(productReplica.getPriceUnit())
+				.build();
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,27 @@
 package com.selimhorri.app.repository;
 
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 
-public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId>, BatchInsertRepository<OrderItem> {
+	
+	Slice<OrderItem> findAllBy(final Pageable pageable);
 	
+	@Query("SELECT o FROM OrderItem o WHERE o.orderId > :orderId OR (o.orderId = :orderId AND o.productId > :productId)")
+	Slice<OrderItem> findAllAfter(@Param("orderId") final Integer orderId, 
+			@Param("productId") final Integer productId, final Pageable pageable);
 	
+	@Query("SELECT o FROM OrderItem o WHERE o.updatedAt > :since AND o.updatedAt <= :until "
+			+ "ORDER BY o.updatedAt ASC, o.orderId ASC, o.productId ASC")
+	List<OrderItem> findChanged(@Param("since") final Instant since, @Param("until") final Instant until, final Pageable pageable);
 	
 }
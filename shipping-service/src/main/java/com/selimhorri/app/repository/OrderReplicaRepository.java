@@ -0,0 +1,16 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.selimhorri.app.domain.OrderReplica;
+
+public interface OrderReplicaRepository extends JpaRepository<OrderReplica, Integer> {
+	
+	@Query("SELECT MAX(o.changedAt) FROM OrderReplica o")
+	Optional<Instant> findLastChangedAt();
+	
+}
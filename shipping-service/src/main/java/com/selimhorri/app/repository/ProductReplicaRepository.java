@@ -0,0 +1,16 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.selimhorri.app.domain.ProductReplica;
+
+public interface ProductReplicaRepository extends JpaRepository<ProductReplica, Integer> {
+	
+	@Query("SELECT MAX(p.changedAt) FROM ProductReplica p")
+	Optional<Instant> findLastChangedAt();
+	
+}
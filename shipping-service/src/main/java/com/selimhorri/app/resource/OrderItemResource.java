@@ -1,8 +1,12 @@
 package com.selimhorri.app.resource;
 
+import java.time.Instant;
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,9 +15,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.OrderItemService;
@@ -30,9 +36,22 @@ public class OrderItemResource {
 	private final OrderItemService orderItemService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<OrderItemDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<OrderItemDto>> findAll(
+			final Pageable pageable, 
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "count", defaultValue = "true") final boolean count) {
 		log.info("*** OrderItemDto List, controller; fetch all orderItems *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderItemService.findAll()));
+		if (pageable.isUnpaged() && after == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderItemService.findAll()));
+		return ResponseEntity.ok(this.orderItemService.findAll(pageable, after, count));
+	}
+	
+	@GetMapping("/changes")
+	public ResponseEntity<DtoCollectionResponse<ChangeDto<OrderItemDto>>> findChanges(
+			@RequestParam(name = "since", required = false) final Instant since, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		log.info("*** OrderItemDto List, resource; fetch orderItem changes *");
+		return ResponseEntity.ok(this.orderItemService.findChanges(since != null ? since : Instant.EPOCH, limit));
 	}
 	
 	@GetMapping("/{orderId}/{productId}")
@@ -62,6 +81,15 @@ public class OrderItemResource {
 		return ResponseEntity.ok(this.orderItemService.save(orderItemDto));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<OrderItemDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<@Valid OrderItemDto> orderItemDtos) {
+		log.info("*** OrderItemDto List, resource; save orderItems batch *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderItemService.saveAll(orderItemDtos)));
+	}
+	
 	@PutMapping
 	public ResponseEntity<OrderItemDto> update(
 			@RequestBody 
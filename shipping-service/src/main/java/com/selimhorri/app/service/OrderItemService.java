@@ -1,15 +1,23 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
 import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderItemService {
 	
 	List<OrderItemDto> findAll();
+	DtoCollectionResponse<OrderItemDto> findAll(final Pageable pageable, final String after, final boolean withCount);
+	DtoCollectionResponse<ChangeDto<OrderItemDto>> findChanges(final Instant since, final Integer limit);
 	OrderItemDto findById(final OrderItemId orderItemId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
+	List<OrderItemDto> saveAll(final List<OrderItemDto> orderItemDtos);
 	OrderItemDto update(final OrderItemDto orderItemDto);
 	void deleteById(final OrderItemId orderItemId);
 	
@@ -0,0 +1,18 @@
+package com.selimhorri.app.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+
+public interface OrderReplicaService {
+	
+	Optional<OrderDto> findById(final Integer orderId);
+	boolean apply(final OutboxEventDto outboxEventDto);
+	Optional<Instant> findLastChangedAt();
+	int applyChanges(final Collection<ChangeDto<OrderDto>> changes);
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+
+public interface ProductReplicaService {
+	
+	Optional<ProductDto> findById(final Integer productId);
+	boolean apply(final OutboxEventDto outboxEventDto);
+	Optional<Instant> findLastChangedAt();
+	int applyChanges(final Collection<ChangeDto<ProductDto>> changes);
+	
+}
@@ -0,0 +1,12 @@
+package com.selimhorri.app.service;
+
+import org.springframework.core.ParameterizedTypeReference;
+
+import reactor.core.publisher.Mono;
+
+public interface RemoteClientService {
+	
+	<T> Mono<T> get(final String uri, final Class<T> type);
+	<T> Mono<T> get(final String uri, final ParameterizedTypeReference<T> type);
+	
+}
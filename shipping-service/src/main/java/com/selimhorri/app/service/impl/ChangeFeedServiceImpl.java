@@ -0,0 +1,134 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.config.changes.ChangeFeedProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.AbstractMappedEntity;
+import com.selimhorri.app.domain.ChangeType;
+import com.selimhorri.app.domain.Tombstone;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.TombstoneRepository;
+import com.selimhorri.app.service.ChangeFeedService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Merges rows touched after a watermark with the tombstones left by deletes. Changes younger 
+ * than the settle time are held back so a transaction still committing cannot land behind a 
+ * watermark already handed out, and a page never ends inside a group of changes sharing one 
+ * instant, so the returned cursor can be used as an exclusive {@code since} on the next call.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+	
+	private final TombstoneRepository tombstoneRepository;
+	private final ChangeFeedProperties changeFeedProperties;
+	
+	@Override
+	public void recordDeletion(final String entityType, final String entityKey) {
+		this.tombstoneRepository.save(Tombstone.builder()
+				.entityType(entityType)
+				.entityKey(entityKey)
+				.deletedAt(Instant.now())
+				.build());
+	}
+	
+	@Override
+	public <E extends AbstractMappedEntity, D> DtoCollectionResponse<ChangeDto<D>> findChanges(final String entityType, 
+			final Instant since, final Integer limit, final ChangeSource<E> changeSource, 
+			final Function<E, D> upsertMapper, final Function<String, D> tombstoneMapper) {
+		log.info("*** ChangeDto List, service; fetch {} changes since {} *", entityType, since);
+		final var until = Instant.now().minus(this.changeFeedProperties.getSettleTime());
+		if (!since.isBefore(until))
+			return page(List.of(), since, false);
+		
+		final int size = limit == null ? AppConstant.ChangeFeed.DEFAULT_LIMIT 
+				: Math.max(1, Math.min(limit, AppConstant.ChangeFeed.MAX_LIMIT));
+		final var pageable = PageRequest.of(0, size);
+		final var upserts = changeSource.findChanged(since, until, pageable);
+		final var tombstones = this.tombstoneRepository.findChanged(entityType, since, until, pageable);
+		final var changes = merge(upserts, tombstones, upsertMapper, tombstoneMapper);
+		if (upserts.size() < size && tombstones.size() < size && changes.size() <= size)
+			return page(changes, changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangedAt(), false);
+		
+		// anything at or after the boundary may still have unread siblings
+		final var boundary = changes.get(size - 1).getChangedAt();
+		final var complete = changes.stream()
+				.filter(c -> c.getChangedAt().isBefore(boundary))
+				.collect(Collectors.toList());
+		if (!complete.isEmpty())
+			return page(complete, complete.get(complete.size() - 1).getChangedAt(), true);
+		
+		// a whole page shares one instant: return every change at that instant in one go
+		return page(merge(changeSource.findChanged(since, boundary, Pageable.unpaged()), 
+				this.tombstoneRepository.findChanged(entityType, since, boundary, Pageable.unpaged()), 
+				upsertMapper, tombstoneMapper), boundary, true);
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.changes.purge-interval:PT1H}")
+	public int purge() {
+		final var purged = this.tombstoneRepository
+				.deleteDeletedBefore(Instant.now().minus(this.changeFeedProperties.getTombstoneRetention()));
+		log.info("*** Integer, service; purged {} tombstones *", purged);
+		return purged;
+	}
+	
+	private static <E extends AbstractMappedEntity, D> List<ChangeDto<D>> merge(final List<E> upserts, 
+			final List<Tombstone> tombstones, final Function<E, D> upsertMapper, final Function<String, D> tombstoneMapper) {
+		final var changes = new ArrayList<ChangeDto<D>>(upserts.size() + tombstones.size());
+		upserts.forEach(e -> changes.add(ChangeDto.<D>builder()
+				.changeType(ChangeType.UPSERTED)
+				.changedAt(e.getUpdatedAt())
+				.item(upsertMapper.apply(e))
+				.build()));
+		tombstones.forEach(t -> changes.add(ChangeDto.<D>builder()
+				.changeType(ChangeType.DELETED)
+				.changedAt(t.getDeletedAt())
+				.item(tombstoneMapper.apply(t.getEntityKey()))
+				.build()));
+		changes.sort(Comparator.comparing(ChangeDto::getChangedAt));
+		return changes;
+	}
+	
+	private static <D> DtoCollectionResponse<ChangeDto<D>> page(final List<ChangeDto<D>> changes, 
+			final Instant watermark, final boolean hasNext) {
+		return DtoCollectionResponse.<ChangeDto<D>>builder()
+				.collection(changes)
+				.size(changes.size())
+				.hasNext(hasNext)
+				.nextCursor(watermark.toString())
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
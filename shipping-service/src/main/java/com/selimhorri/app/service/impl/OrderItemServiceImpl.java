@@ -1,25 +1,34 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.service.ChangeFeedService;
 import com.selimhorri.app.service.OrderItemService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @Transactional
@@ -28,38 +37,59 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
-	private final RestTemplate restTemplate;
+	private final AsyncLoadingCache<Integer, ProductDto> productDtoCache;
+	private final AsyncLoadingCache<Integer, OrderDto> orderDtoCache;
+	private final ChangeFeedService changeFeedService;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.fetchProductsAndOrders(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<OrderItemDto> findAll(final Pageable pageable, final String after, final boolean withCount) {
+		log.info("*** OrderItemDto List, service; fetch orderItems page *");
+		if (after != null) {
+			final var cursor = this.parseCursor(after);
+			final var slice = this.orderItemRepository
+					.findAllAfter(cursor[0], cursor[1], PageRequest.of(0, 
+							pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+							Sort.by("orderId", "productId")))
+					.map(OrderItemMappingHelper::map);
+			this.fetchProductsAndOrders(slice.getContent());
+			return DtoCollectionResponse.of(slice, 
+					o -> o.getOrderId() + "," + o.getProductId(), 
+					withCount ? this.orderItemRepository.count() : null);
+		}
+		final var slice = (withCount ? this.orderItemRepository.findAll(pageable) 
+				: this.orderItemRepository.findAllBy(pageable))
+				.map(OrderItemMappingHelper::map);
+		this.fetchProductsAndOrders(slice.getContent());
+		return DtoCollectionResponse.of(slice);
 	}
 	
 	//solo cambio este metodo
+	@Override
+	public DtoCollectionResponse<ChangeDto<OrderItemDto>> findChanges(final Instant since, final Integer limit) {
+		log.info("*** OrderItemDto List, service; fetch orderItem changes *");
+		return this.changeFeedService.findChanges(AppConstant.ChangeFeed.SHIPPINGS, since, limit, 
+				this.orderItemRepository::findChanged, OrderItemMappingHelper::map, key -> {
+					final var orderItemId = this.parseCursor(key);
+					return OrderItemDto.builder().orderId(orderItemId[0]).productId(orderItemId[1]).build();
+				});
+	}
+	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
 		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> this.fetchProductsAndOrders(List.of(o)).get(0))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
@@ -70,6 +100,21 @@ public class OrderItemServiceImpl implements OrderItemService {
 				.save(OrderItemMappingHelper.map(orderItemDto)));
 	}
 	
+	@Override
+	public List<OrderItemDto> saveAll(final List<OrderItemDto> orderItemDtos) {
+		log.info("*** OrderItemDto List, service; save orderItems batch *");
+		if (orderItemDtos.size() > AppConstant.MAX_BATCH_WRITE_SIZE)
+			throw new IllegalStateException(String.format("Batch of %d orderItems exceeds the limit of %d", 
+					orderItemDtos.size(), AppConstant.MAX_BATCH_WRITE_SIZE));
+		return this.orderItemRepository.insertAll(orderItemDtos
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toList()))
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public OrderItemDto update(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; update orderItem *");
@@ -81,6 +126,39 @@ public class OrderItemServiceImpl implements OrderItemService {
 	public void deleteById(final OrderItemId orderItemId) {
 		log.info("*** Void, service; delete orderItem by id *");
 		this.orderItemRepository.deleteById(orderItemId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.SHIPPINGS, 
+				orderItemId.getOrderId() + "," + orderItemId.getProductId());
+	}
+	
+	private List<OrderItemDto> fetchProductsAndOrders(final List<OrderItemDto> orderItemDtos) {
+		Flux.fromIterable(orderItemDtos)
+				.flatMap(this::fetchProductAndOrder, AppConstant.REMOTE_FETCH_CONCURRENCY)
+				.then()
+				.block();
+		return orderItemDtos;
+	}
+	
+	private Mono<OrderItemDto> fetchProductAndOrder(final OrderItemDto orderItemDto) {
+		return Mono.zip(
+				Mono.fromFuture(this.productDtoCache.get(orderItemDto.getProductDto().getProductId()).copy()), 
+				Mono.fromFuture(this.orderDtoCache.get(orderItemDto.getOrderDto().getOrderId()).copy()))
+				.map(productAndOrder -> {
+					orderItemDto.setProductDto(productAndOrder.getT1());
+					orderItemDto.setOrderDto(productAndOrder.getT2());
+					return orderItemDto;
+				});
+	}
+	
+	private int[] parseCursor(final String after) {
+		final var parts = after.split(",");
+		try {
+			if (parts.length == 2)
+				return new int[] { Integer.parseInt(parts[0].strip()), Integer.parseInt(parts[1].strip()) };
+		}
+		catch (NumberFormatException e) {
+			log.warn("*** Invalid orderItem cursor: {} *", after);
+		}
+		throw new IllegalStateException(String.format("Invalid cursor: %s, expected <orderId>,<productId>", after));
 	}
 	
 	
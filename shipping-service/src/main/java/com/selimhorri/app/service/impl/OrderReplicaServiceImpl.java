@@ -0,0 +1,144 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ChangeType;
+import com.selimhorri.app.domain.OrderReplica;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.helper.OrderReplicaMappingHelper;
+import com.selimhorri.app.repository.OrderReplicaRepository;
+import com.selimhorri.app.service.OrderReplicaService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+public class OrderReplicaServiceImpl implements OrderReplicaService {
+	
+	private final OrderReplicaRepository orderReplicaRepository;
+	private final ObjectReader orderDtoReader;
+	
+	public OrderReplicaServiceImpl(final OrderReplicaRepository orderReplicaRepository, final ObjectMapper objectMapper) {
+		this.orderReplicaRepository = orderReplicaRepository;
+		this.orderDtoReader = objectMapper.readerFor(OrderDto.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+	
+	@Override
+	public Optional<OrderDto> findById(final Integer orderId) {
+		log.info("*** OrderDto, service; fetch order replica by id *");
+		return this.orderReplicaRepository.findById(orderId)
+				.filter(orderReplica -> !orderReplica.isDeleted())
+				.map(OrderReplicaMappingHelper::map);
+	}
+	
+	/**
+	 * Applies an order event unless the replica already reflects the same or a newer one, 
+	 * which makes redeliveries from the at-least-once relay harmless.
+	 */
+	@Override
+	public boolean apply(final OutboxEventDto outboxEventDto) {
+		log.info("*** Boolean, service; apply order outbox event *");
+		final var current = this.orderReplicaRepository.findById(outboxEventDto.getAggregateId());
+		if (current.isPresent() && current.get().getLastEventId() >= outboxEventDto.getEventId())
+			return false;
+		
+		final var orderReplica = current.orElseGet(() -> OrderReplica.builder()
+				.orderId(outboxEventDto.getAggregateId())
+				.build());
+		orderReplica.setLastEventId(outboxEventDto.getEventId());
+		if (AppConstant.Outbox.DELETED.equals(outboxEventDto.getEventType()))
+			orderReplica.setDeleted(true);
+		else {
+			final var orderDto = this.read(outboxEventDto);
+			orderReplica.setOrderDate(orderDto.getOrderDate());
+			orderReplica.setOrderDesc(orderDto.getOrderDesc());
+			orderReplica.setOrderFee(orderDto.getOrderFee());
+			orderReplica.setDeleted(false);
+		}
+		this.orderReplicaRepository.save(orderReplica);
+		return true;
+	}
+	
+	@Override
+	public Optional<Instant> findLastChangedAt() {
+		return this.orderReplicaRepository.findLastChangedAt();
+	}
+	
+	/**
+	 * Applies a page of the order-service change feed. Rows already at or past a change are 
+	 * skipped, and a delete is final since order ids are never reused, so no outbox event 
+	 * still in flight can bring the order back once the feed has reported it gone.
+	 */
+	@Override
+	public int applyChanges(final Collection<ChangeDto<OrderDto>> changes) {
+		log.info("*** Integer, service; apply order changes *");
+		int applied = 0;
+		for (final var change : changes) {
+			final var orderId = change.getItem().getOrderId();
+			final var current = this.orderReplicaRepository.findById(orderId);
+			if (current.isPresent() && current.get().getChangedAt() != null 
+					&& !change.getChangedAt().isAfter(current.get().getChangedAt()))
+				continue;
+			if (current.isPresent() && current.get().isDeleted() && change.getChangeType() != ChangeType.DELETED)
+				continue;
+			
+			final var orderReplica = current.orElseGet(() -> OrderReplica.builder()
+					.orderId(orderId)
+					.lastEventId(0L)
+					.build());
+			orderReplica.setChangedAt(change.getChangedAt());
+			if (change.getChangeType() == ChangeType.DELETED) {
+				orderReplica.setDeleted(true);
+				orderReplica.setLastEventId(Long.MAX_VALUE);
+			}
+			else {
+				final var orderDto = change.getItem();
+				orderReplica.setOrderDate(orderDto.getOrderDate());
+				orderReplica.setOrderDesc(orderDto.getOrderDesc());
+				orderReplica.setOrderFee(orderDto.getOrderFee());
+				orderReplica.setDeleted(false);
+			}
+			this.orderReplicaRepository.save(orderReplica);
+			applied++;
+		}
+		return applied;
+	}
+	
+	private OrderDto read(final OutboxEventDto outboxEventDto) {
+		try {
+			return this.orderDtoReader.readValue(outboxEventDto.getPayload());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,146 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ChangeType;
+import com.selimhorri.app.domain.ProductReplica;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.helper.ProductReplicaMappingHelper;
+import com.selimhorri.app.repository.ProductReplicaRepository;
+import com.selimhorri.app.service.ProductReplicaService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+public class ProductReplicaServiceImpl implements ProductReplicaService {
+	
+	private final ProductReplicaRepository productReplicaRepository;
+	private final ObjectReader productDtoReader;
+	
+	public ProductReplicaServiceImpl(final ProductReplicaRepository productReplicaRepository, final ObjectMapper objectMapper) {
+		this.productReplicaRepository = productReplicaRepository;
+		this.productDtoReader = objectMapper.readerFor(ProductDto.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+	
+	@Override
+	public Optional<ProductDto> findById(final Integer productId) {
+		log.info("*** ProductDto, service; fetch product replica by id *");
+		return this.productReplicaRepository.findById(productId)
+				.filter(productReplica -> !productReplica.isDeleted())
+				.map(ProductReplicaMappingHelper::map);
+	}
+	
+	/**
+	 * Applies a product event unless the replica already reflects the same or a newer one, 
+	 * which makes redeliveries from the at-least-once relay harmless.
+	 */
+	@Override
+	public boolean apply(final OutboxEventDto outboxEventDto) {
+		log.info("*** Boolean, service; apply product outbox event *");
+		final var current = this.productReplicaRepository.findById(outboxEventDto.getAggregateId());
+		if (current.isPresent() && current.get().getLastEventId() >= outboxEventDto.getEventId())
+			return false;
+		
+		final var productReplica = current.orElseGet(() -> ProductReplica.builder()
+				.productId(outboxEventDto.getAggregateId())
+				.build());
+		productReplica.setLastEventId(outboxEventDto.getEventId());
+		if (AppConstant.Outbox.DELETED.equals(outboxEventDto.getEventType()))
+			productReplica.setDeleted(true);
+		else {
+			final var productDto = this.read(outboxEventDto);
+			productReplica.setProductTitle(productDto.getProductTitle());
+			productReplica.setImageUrl(productDto.getImageUrl());
+			productReplica.setSku(productDto.getSku());
+			productReplica.setPriceUnit(productDto.getPriceUnit());
+			productReplica.setDeleted(false);
+		}
+		this.productReplicaRepository.save(productReplica);
+		return true;
+	}
+	
+	@Override
+	public Optional<Instant> findLastChangedAt() {
+		return this.productReplicaRepository.findLastChangedAt();
+	}
+	
+	/**
+	 * Applies a page of the product-service change feed. Rows already at or past a change are 
+	 * skipped, and a delete is final since product ids are never reused, so no outbox event 
+	 * still in flight can bring the product back once the feed has reported it gone.
+	 */
+	@Override
+	public int applyChanges(final Collection<ChangeDto<ProductDto>> changes) {
+		log.info("*** Integer, service; apply product changes *");
+		int applied = 0;
+		for (final var change : changes) {
+			final var productId = change.getItem().getProductId();
+			final var current = this.productReplicaRepository.findById(productId);
+			if (current.isPresent() && current.get().getChangedAt() != null 
+					&& !change.getChangedAt().isAfter(current.get().getChangedAt()))
+				continue;
+			if (current.isPresent() && current.get().isDeleted() && change.getChangeType() != ChangeType.DELETED)
+				continue;
+			
+			final var productReplica = current.orElseGet(() -> ProductReplica.builder()
+					.productId(productId)
+					.lastEventId(0L)
+					.build());
+			productReplica.setChangedAt(change.getChangedAt());
+			if (change.getChangeType() == ChangeType.DELETED) {
+				productReplica.setDeleted(true);
+				productReplica.setLastEventId(Long.MAX_VALUE);
+			}
+			else {
+				final var productDto = change.getItem();
+				productReplica.setProductTitle(productDto.getProductTitle());
+				productReplica.setImageUrl(productDto.getImageUrl());
+				productReplica.setSku(productDto.getSku());
+				productReplica.setPriceUnit(productDto.getPriceUnit());
+				productReplica.setDeleted(false);
+			}
+			this.productReplicaRepository.save(productReplica);
+			applied++;
+		}
+		return applied;
+	}
+	
+	private ProductDto read(final OutboxEventDto outboxEventDto) {
+		try {
+			return this.productDtoReader.readValue(outboxEventDto.getPayload());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
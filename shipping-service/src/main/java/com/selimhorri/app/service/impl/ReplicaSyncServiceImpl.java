@@ -0,0 +1,110 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.config.replica.ReplicaSyncProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.service.CacheInvalidationService;
+import com.selimhorri.app.service.OrderReplicaService;
+import com.selimhorri.app.service.ProductReplicaService;
+import com.selimhorri.app.service.RemoteClientService;
+import com.selimhorri.app.service.ReplicaSyncService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pulls the change feeds of the owning services into the replicas, which fills them with rows 
+ * that predate the outbox relay and repairs any event that was missed or rejected on the way. 
+ * The first run happens at startup and pages from the beginning of the feed, later runs resume 
+ * after the newest change a replica has applied.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaSyncServiceImpl implements ReplicaSyncService {
+	
+	private static final ParameterizedTypeReference<DtoCollectionResponse<ChangeDto<ProductDto>>> PRODUCT_CHANGES = 
+			new ParameterizedTypeReference<>() {};
+	private static final ParameterizedTypeReference<DtoCollectionResponse<ChangeDto<OrderDto>>> ORDER_CHANGES = 
+			new ParameterizedTypeReference<>() {};
+	
+	private final RemoteClientService remoteClientService;
+	private final ProductReplicaService productReplicaService;
+	private final OrderReplicaService orderReplicaService;
+	private final CacheInvalidationService cacheInvalidationService;
+	private final ReplicaSyncProperties replicaSyncProperties;
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.replica.sync.interval:PT1M}")
+	public int catchUp() {
+		return this.catchUp(AppConstant.RemoteCache.PRODUCTS, AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+						PRODUCT_CHANGES, this.productReplicaService::findLastChangedAt, 
+						this.productReplicaService::applyChanges, ProductDto::getProductId) 
+				+ this.catchUp(AppConstant.RemoteCache.ORDERS, AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, 
+						ORDER_CHANGES, this.orderReplicaService::findLastChangedAt, 
+						this.orderReplicaService::applyChanges, OrderDto::getOrderId);
+	}
+	
+	private <D> int catchUp(final String cacheName, final String apiUrl, 
+			final ParameterizedTypeReference<DtoCollectionResponse<ChangeDto<D>>> type, 
+			final Supplier<Optional<Instant>> lastChangedAt, final Function<Collection<ChangeDto<D>>, Integer> applier, 
+			final Function<D, Integer> idMapper) {
+		int applied = 0;
+		try {
+			var since = lastChangedAt.get().orElse(Instant.EPOCH);
+			for (int page = 0; page < this.replicaSyncProperties.getMaxPages(); page++) {
+				final var response = this.remoteClientService.get(String.format("%s/changes?since=%s&limit=%d", 
+						apiUrl, since, this.replicaSyncProperties.getPageSize()), type).block();
+				if (response == null || response.getCollection() == null || response.getCollection().isEmpty())
+					break;
+				
+				final int pageApplied = applier.apply(response.getCollection());
+				if (pageApplied > 0)
+					this.cacheInvalidationService.invalidate(CacheInvalidationDto.builder()
+							.cacheName(cacheName)
+							.ids(response.getCollection().stream()
+									.map(change -> idMapper.apply(change.getItem()))
+									.collect(Collectors.toSet()))
+							.build());
+				applied += pageApplied;
+				if (!Boolean.TRUE.equals(response.getHasNext()) || response.getNextCursor() == null)
+					break;
+				since = Instant.parse(response.getNextCursor());
+			}
+		}
+		catch (RuntimeException e) {
+			log.warn("*** {}, replica sync; catch-up stopped after {} changes: {} *", cacheName, applied, e.toString());
+			return applied;
+		}
+		log.info("*** Integer, service; applied {} {} changes to the replica *", applied, cacheName);
+		return applied;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
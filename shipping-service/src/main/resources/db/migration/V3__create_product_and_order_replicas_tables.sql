@@ -0,0 +1,20 @@
+
+CREATE TABLE product_replicas (
+	product_id INT(11) NOT NULL PRIMARY KEY,
+	product_title VARCHAR(255),
+	image_url VARCHAR(255),
+	sku VARCHAR(255),
+	price_unit DECIMAL(7, 2),
+	is_deleted BOOLEAN NOT NULL,
+	last_event_id BIGINT NOT NULL
+);
+
+CREATE TABLE order_replicas (
+	order_id INT(11) NOT NULL PRIMARY KEY,
+	order_date TIMESTAMP,
+	order_desc VARCHAR(255),
+	order_fee DECIMAL(7, 2),
+	is_deleted BOOLEAN NOT NULL,
+	last_event_id BIGINT NOT NULL
+);
+
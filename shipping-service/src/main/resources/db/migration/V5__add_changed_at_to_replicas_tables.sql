@@ -0,0 +1,4 @@
+
+ALTER TABLE product_replicas ADD changed_at TIMESTAMP NULL;
+ALTER TABLE order_replicas ADD changed_at TIMESTAMP NULL;
+
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,11 +12,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
@@ -23,8 +24,12 @@ import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.repository.OrderItemRepository;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.RemoteClientService;
 import com.selimhorri.app.service.impl.OrderItemServiceImpl;
 
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class ShippingServiceImplTest {
 
@@ -32,9 +37,11 @@ class ShippingServiceImplTest {
 	private OrderItemRepository orderItemRepository;
 
 	@Mock
-	private RestTemplate restTemplate;
+	private RemoteClientService remoteClientService;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
 
-	@InjectMocks
 	private OrderItemServiceImpl orderItemService;
 
 	private OrderItem orderItem;
@@ -45,6 +52,13 @@ class ShippingServiceImplTest {
 
 	@BeforeEach
 	void setUp() {
+		orderItemService = new OrderItemServiceImpl(orderItemRepository, 
+				Caffeine.newBuilder().<Integer, ProductDto>buildAsync((productId, executor) -> remoteClientService.get(
+						AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class).toFuture()), 
+				Caffeine.newBuilder().<Integer, OrderDto>buildAsync((orderId, executor) -> remoteClientService.get(
+						AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class).toFuture()), 
+				changeFeedService);
+
 		orderItemId = new OrderItemId(1, 1);
 
 		productDto = ProductDto.builder()
@@ -80,8 +94,8 @@ class ShippingServiceImplTest {
 	@DisplayName("findAll - Debe retornar lista de items de orden")
 	void testFindAll_Success() {
 		when(orderItemRepository.findAll()).thenReturn(List.of(orderItem));
-		when(restTemplate.getForObject(anyString(), eq(ProductDto.class))).thenReturn(productDto);
-		when(restTemplate.getForObject(anyString(), eq(OrderDto.class))).thenReturn(orderDto);
+		when(remoteClientService.get(anyString(), eq(ProductDto.class))).thenReturn(Mono.just(productDto));
+		when(remoteClientService.get(anyString(), eq(OrderDto.class))).thenReturn(Mono.just(orderDto));
 
 		List<OrderItemDto> result = orderItemService.findAll();
 
@@ -95,8 +109,8 @@ class ShippingServiceImplTest {
 	@DisplayName("findById - Debe retornar item de orden por ID compuesto")
 	void testFindById_Success() {
 		when(orderItemRepository.findById(orderItemId)).thenReturn(Optional.of(orderItem));
-		when(restTemplate.getForObject(anyString(), eq(ProductDto.class))).thenReturn(productDto);
-		when(restTemplate.getForObject(anyString(), eq(OrderDto.class))).thenReturn(orderDto);
+		when(remoteClientService.get(anyString(), eq(ProductDto.class))).thenReturn(Mono.just(productDto));
+		when(remoteClientService.get(anyString(), eq(OrderDto.class))).thenReturn(Mono.just(orderDto));
 
 		OrderItemDto result = orderItemService.findById(orderItemId);
 
@@ -129,6 +143,26 @@ class ShippingServiceImplTest {
 		verify(orderItemRepository, times(1)).save(any(OrderItem.class));
 	}
 
+	@Test
+	@DisplayName("saveAll - Debe guardar el lote con una sola llamada al repositorio")
+	void testSaveAll_SingleRepositoryCall() {
+		when(orderItemRepository.insertAll(anyIterable())).thenReturn(List.of(orderItem, orderItem));
+
+		List<OrderItemDto> result = orderItemService.saveAll(List.of(orderItemDto, orderItemDto));
+
+		assertEquals(2, result.size());
+		verify(orderItemRepository, times(1)).insertAll(anyIterable());
+		verify(orderItemRepository, never()).save(any(OrderItem.class));
+	}
+
+	@Test
+	@DisplayName("saveAll - Debe rechazar lotes que superan el limite")
+	void testSaveAll_OversizedBatch() {
+		assertThrows(IllegalStateException.class, () -> orderItemService
+				.saveAll(Collections.nCopies(AppConstant.MAX_BATCH_WRITE_SIZE + 1, orderItemDto)));
+		verifyNoInteractions(orderItemRepository);
+	}
+
 	@Test
 	@DisplayName("deleteById - Debe eliminar item de orden por ID compuesto")
 	void testDeleteById_Success() {
@@ -0,0 +1,77 @@
+package com.selimhorri.app;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.service.CacheInvalidationService;
+import com.selimhorri.app.service.OrderReplicaService;
+import com.selimhorri.app.service.ProductReplicaService;
+import com.selimhorri.app.service.impl.OutboxEventServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceImplTest {
+
+	@Mock
+	private ProductReplicaService productReplicaService;
+
+	@Mock
+	private OrderReplicaService orderReplicaService;
+
+	@Mock
+	private CacheInvalidationService cacheInvalidationService;
+
+	@InjectMocks
+	private OutboxEventServiceImpl outboxEventService;
+
+	@Test
+	@DisplayName("consume - Debe actualizar la replica de producto e invalidar su cache")
+	void testConsume_ProductEvent() {
+		final var outboxEventDto = event(AppConstant.Outbox.PRODUCTS, 4);
+		when(productReplicaService.apply(outboxEventDto)).thenReturn(true);
+
+		outboxEventService.consume(outboxEventDto);
+
+		verify(cacheInvalidationService, times(1)).invalidate(new CacheInvalidationDto(AppConstant.RemoteCache.PRODUCTS, Set.of(4)));
+		verify(orderReplicaService, never()).apply(any(OutboxEventDto.class));
+	}
+
+	@Test
+	@DisplayName("consume - No debe invalidar la cache cuando el evento ya fue aplicado")
+	void testConsume_DuplicateOrderEvent() {
+		final var outboxEventDto = event(AppConstant.Outbox.ORDERS, 2);
+		when(orderReplicaService.apply(outboxEventDto)).thenReturn(false);
+
+		outboxEventService.consume(outboxEventDto);
+
+		verify(cacheInvalidationService, never()).invalidate(any(CacheInvalidationDto.class));
+	}
+
+	@Test
+	@DisplayName("consume - Debe ignorar eventos de agregados desconocidos")
+	void testConsume_UnknownAggregate() {
+		outboxEventService.consume(event(AppConstant.Outbox.USERS, 1));
+
+		verifyNoInteractions(productReplicaService, orderReplicaService, cacheInvalidationService);
+	}
+
+	private static OutboxEventDto event(final String aggregateType, final Integer aggregateId) {
+		return OutboxEventDto.builder()
+				.eventId(1L)
+				.aggregateType(aggregateType)
+				.aggregateId(aggregateId)
+				.eventType(AppConstant.Outbox.UPSERTED)
+				.build();
+	}
+}
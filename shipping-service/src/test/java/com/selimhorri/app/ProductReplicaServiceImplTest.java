@@ -0,0 +1,88 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ChangeType;
+import com.selimhorri.app.domain.ProductReplica;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.repository.ProductReplicaRepository;
+import com.selimhorri.app.service.impl.ProductReplicaServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReplicaServiceImplTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private ProductReplicaRepository productReplicaRepository;
+
+	private ProductReplicaServiceImpl productReplicaService;
+
+	@BeforeEach
+	void setUp() {
+		productReplicaService = new ProductReplicaServiceImpl(productReplicaRepository, objectMapper);
+	}
+
+	@Test
+	@DisplayName("applyChanges - Debe crear replicas para productos previos al relay")
+	void testApplyChanges_BootstrapsMissingRows() {
+		final var changedAt = Instant.parse("2024-01-01T00:00:00Z");
+		when(productReplicaRepository.findById(7)).thenReturn(Optional.empty());
+
+		final int applied = productReplicaService.applyChanges(List.of(ChangeDto.<ProductDto>builder()
+				.changeType(ChangeType.UPSERTED)
+				.changedAt(changedAt)
+				.item(ProductDto.builder().productId(7).productTitle("Laptop").priceUnit(10.0).build())
+				.build()));
+
+		assertEquals(1, applied);
+		verify(productReplicaRepository).save(argThat(p -> p.getProductId() == 7 && "Laptop".equals(p.getProductTitle()) 
+				&& !p.isDeleted() && changedAt.equals(p.getChangedAt()) && p.getLastEventId() == 0L));
+	}
+
+	@Test
+	@DisplayName("applyChanges - Un tombstone del feed debe impedir que un evento atrasado reviva el producto")
+	void testApplyChanges_TombstoneIsFinal() {
+		final var replica = ProductReplica.builder()
+				.productId(7)
+				.productTitle("Laptop")
+				.lastEventId(3L)
+				.build();
+		when(productReplicaRepository.findById(7)).thenReturn(Optional.of(replica));
+
+		productReplicaService.applyChanges(List.of(ChangeDto.<ProductDto>builder()
+				.changeType(ChangeType.DELETED)
+				.changedAt(Instant.parse("2024-01-01T00:00:00Z"))
+				.item(ProductDto.builder().productId(7).build())
+				.build()));
+		final boolean redelivered = productReplicaService.apply(OutboxEventDto.builder()
+				.eventId(4L)
+				.aggregateType(AppConstant.Outbox.PRODUCTS)
+				.aggregateId(7)
+				.eventType(AppConstant.Outbox.UPSERTED)
+				.payload(objectMapper.valueToTree(ProductDto.builder().productId(7).productTitle("Laptop").build()))
+				.build());
+
+		assertTrue(replica.isDeleted());
+		assertFalse(redelivered);
+		assertTrue(productReplicaService.findById(7).isEmpty());
+		verify(productReplicaRepository, times(1)).save(any(ProductReplica.class));
+	}
+}
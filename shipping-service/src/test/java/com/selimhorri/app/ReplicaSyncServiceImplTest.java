@@ -0,0 +1,125 @@
+package com.selimhorri.app;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+
+import com.selimhorri.app.config.replica.ReplicaSyncProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ChangeType;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.dto.ChangeDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.service.CacheInvalidationService;
+import com.selimhorri.app.service.OrderReplicaService;
+import com.selimhorri.app.service.ProductReplicaService;
+import com.selimhorri.app.service.RemoteClientService;
+import com.selimhorri.app.service.impl.ReplicaSyncServiceImpl;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaSyncServiceImplTest {
+
+	private static final String PRODUCT_CHANGES_URL = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/changes";
+	private static final String ORDER_CHANGES_URL = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/changes";
+
+	@Mock
+	private RemoteClientService remoteClientService;
+
+	@Mock
+	private ProductReplicaService productReplicaService;
+
+	@Mock
+	private OrderReplicaService orderReplicaService;
+
+	@Mock
+	private CacheInvalidationService cacheInvalidationService;
+
+	private ReplicaSyncServiceImpl replicaSyncService;
+
+	@BeforeEach
+	void setUp() {
+		replicaSyncService = new ReplicaSyncServiceImpl(remoteClientService, productReplicaService, orderReplicaService, 
+				cacheInvalidationService, new ReplicaSyncProperties());
+	}
+
+	@Test
+	@DisplayName("catchUp - Debe cargar el feed completo al arrancar y aplicar los tombstones")
+	@SuppressWarnings("unchecked")
+	void testCatchUp_BootstrapsFromFeed() {
+		final var cursor = Instant.parse("2024-01-01T00:00:00Z");
+		final var firstPage = List.of(upsert(1, cursor.minusSeconds(5)), upsert(2, cursor));
+		final var secondPage = List.of(ChangeDto.<ProductDto>builder()
+				.changeType(ChangeType.DELETED)
+				.changedAt(cursor.plusSeconds(5))
+				.item(ProductDto.builder().productId(1).build())
+				.build());
+		when(productReplicaService.findLastChangedAt()).thenReturn(Optional.empty());
+		when(orderReplicaService.findLastChangedAt()).thenReturn(Optional.empty());
+		when(remoteClientService.get(startsWith(PRODUCT_CHANGES_URL + "?since=" + Instant.EPOCH), any(ParameterizedTypeReference.class)))
+				.thenReturn(Mono.just(page(firstPage, true, cursor.toString())));
+		when(remoteClientService.get(startsWith(PRODUCT_CHANGES_URL + "?since=" + cursor), any(ParameterizedTypeReference.class)))
+				.thenReturn(Mono.just(page(secondPage, false, cursor.plusSeconds(5).toString())));
+		when(remoteClientService.get(startsWith(ORDER_CHANGES_URL), any(ParameterizedTypeReference.class)))
+				.thenReturn(Mono.just(page(List.of(), false, Instant.EPOCH.toString())));
+		when(productReplicaService.applyChanges(firstPage)).thenReturn(2);
+		when(productReplicaService.applyChanges(secondPage)).thenReturn(1);
+
+		assertEquals(3, replicaSyncService.catchUp());
+
+		verify(cacheInvalidationService, times(1)).invalidate(new CacheInvalidationDto(AppConstant.RemoteCache.PRODUCTS, Set.of(1, 2)));
+		verify(cacheInvalidationService, times(1)).invalidate(new CacheInvalidationDto(AppConstant.RemoteCache.PRODUCTS, Set.of(1)));
+		verify(orderReplicaService, never()).applyChanges(any());
+	}
+
+	@Test
+	@DisplayName("catchUp - Debe reanudar desde el ultimo cambio aplicado y seguir con las ordenes si falla productos")
+	@SuppressWarnings("unchecked")
+	void testCatchUp_ResumesAndIsolatesFailures() {
+		final var lastChangedAt = Instant.parse("2024-01-01T00:00:00Z");
+		when(productReplicaService.findLastChangedAt()).thenReturn(Optional.of(lastChangedAt));
+		when(orderReplicaService.findLastChangedAt()).thenReturn(Optional.of(lastChangedAt));
+		when(remoteClientService.get(startsWith(PRODUCT_CHANGES_URL + "?since=" + lastChangedAt), any(ParameterizedTypeReference.class)))
+				.thenReturn(Mono.error(new IllegalStateException("down")));
+		when(remoteClientService.get(startsWith(ORDER_CHANGES_URL + "?since=" + lastChangedAt), any(ParameterizedTypeReference.class)))
+				.thenReturn(Mono.just(page(List.of(), false, lastChangedAt.toString())));
+
+		assertEquals(0, replicaSyncService.catchUp());
+
+		verify(productReplicaService, never()).applyChanges(any());
+		verify(remoteClientService, times(1)).get(startsWith(ORDER_CHANGES_URL), any(ParameterizedTypeReference.class));
+		verifyNoInteractions(cacheInvalidationService);
+	}
+
+	private static ChangeDto<ProductDto> upsert(final Integer productId, final Instant changedAt) {
+		return ChangeDto.<ProductDto>builder()
+				.changeType(ChangeType.UPSERTED)
+				.changedAt(changedAt)
+				.item(ProductDto.builder().productId(productId).productTitle("Product " + productId).build())
+				.build();
+	}
+
+	private static <T> DtoCollectionResponse<T> page(final List<T> collection, final boolean hasNext, final String nextCursor) {
+		return DtoCollectionResponse.<T>builder()
+				.collection(collection)
+				.size(collection.size())
+				.hasNext(hasNext)
+				.nextCursor(nextCursor)
+				.build();
+	}
+}
@@ -0,0 +1,74 @@
+package com.selimhorri.app.config.etag;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.repository.AddressRepository;
+import com.selimhorri.app.repository.CredentialRepository;
+import com.selimhorri.app.repository.UserRepository;
+import com.selimhorri.app.service.TableVersionRegistry;
+import com.selimhorri.app.service.impl.TableVersionRegistryImpl;
+
+@Configuration
+public class ConditionalGetConfig {
+	
+	@Bean
+	public TableVersionRegistry tableVersionRegistryBean(final UserRepository userRepository, 
+			final CredentialRepository credentialRepository, final AddressRepository addressRepository) {
+		return new TableVersionRegistryImpl(Map.of(
+				AppConstant.ConditionalGet.USERS, userRepository::findTableVersion, 
+				AppConstant.ConditionalGet.CREDENTIALS, credentialRepository::findTableVersion, 
+				AppConstant.ConditionalGet.ADDRESSES, addressRepository::findTableVersion));
+	}
+	
+	@Bean
+	public FilterRegistrationBean<ConditionalGetFilter> conditionalGetFilterBean(final ConditionalGetProperties conditionalGetProperties, 
+			final TableVersionRegistry tableVersionRegistry) {
+		final Supplier<String> userVersion = () -> tableVersionRegistry.versionOf(AppConstant.ConditionalGet.USERS) 
+				+ "," + tableVersionRegistry.versionOf(AppConstant.ConditionalGet.CREDENTIALS) 
+				+ "," + tableVersionRegistry.versionOf(AppConstant.ConditionalGet.ADDRESSES);
+		
+		final var versions = new LinkedHashMap<String, Supplier<String>>();
+		versions.put("/api/users", userVersion);
+		versions.put("/api/users/{userId:\\d+}", userVersion);
+		versions.put("/api/users/username/*", userVersion);
+		
+		final var registration = new FilterRegistrationBean<>(new ConditionalGetFilter(versions, conditionalGetProperties.getCacheControl()));
+		registration.addUrlPatterns("/api/users/*");
+		return registration;
+	}
+	
+	/**
+	 * Tomcat skips compression for responses carrying a strong ETag by default. 
+	 * Our ETags already hash Accept-Encoding, so gzip and identity bodies never share one.
+	 */
+	@Bean
+	public WebServerFactoryCustomizer<TomcatServletWebServerFactory> strongETagCompressionCustomizerBean() {
+		return factory -> factory.addConnectorCustomizers(connector -> {
+			if (connector.getProtocolHandler() instanceof AbstractHttp11Protocol)
+				((AbstractHttp11Protocol<?>) connector.getProtocolHandler()).setNoCompressionStrongETag(false);
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,25 @@
+package com.selimhorri.app.config.etag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.etag")
+@Data
+public class ConditionalGetProperties {
+	
+	private String cacheControl = "private, max-age=0, must-revalidate";
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.domain.listener;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.service.TableVersionRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bumps the table version of every persisted, updated or removed entity, cascades included. 
+ * The registry is resolved lazily because it depends on repositories built after this listener.
+ */
+@Component
+@RequiredArgsConstructor
+public class TableVersionListener {
+	
+	private final ObjectProvider<TableVersionRegistry> tableVersionRegistry;
+	
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void touch(final Object entity) {
+		final var table = Hibernate.getClass(entity).getAnnotation(Table.class);
+		final var registry = this.tableVersionRegistry.getIfAvailable();
+		if (table != null && registry != null)
+			registry.touch(table.name());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,30 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.selimhorri.app.domain.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ChangeDto<T> implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private ChangeType changeType;
+	
+	@JsonSerialize(using = ToStringSerializer.class)
+	private Instant changedAt;
+	
+	private T item;
+	
+}
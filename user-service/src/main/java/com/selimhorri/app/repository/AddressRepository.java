@@ -1,11 +1,14 @@
 package com.selimhorri.app.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.repository.projection.TableVersion;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
-	
+	@Query("SELECT COUNT(a) AS rowCount, MAX(a.updatedAt) AS lastUpdatedAt FROM Address a")
+	TableVersion findTableVersion();
 	
 }
@@ -1,13 +1,24 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.repository.projection.TableVersion;
 
 public interface CredentialRepository extends JpaRepository<Credential, Integer> {
 	
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	Optional<Credential> findByUsername(final String username);
 	
+	@Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastUpdatedAt FROM Credential c")
+	TableVersion findTableVersion();
+	
 }
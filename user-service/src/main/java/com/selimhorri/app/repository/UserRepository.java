@@ -1,16 +1,30 @@
 package com.selimhorri.app.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.User;
+import com.selimhorri.app.repository.projection.TableVersion;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
+	Slice<User> findAllBy(final Pageable pageable);
+	Slice<User> findByUserIdGreaterThan(final Integer userId, final Pageable pageable);
+	
 	@Query("SELECT u FROM User u WHERE u.credentialId IN (SELECT c.credentialId FROM Credential c WHERE c.username = :username)")
 	Optional<User> findByCredentialUsername(@Param("username") String username);
 	
+	@Query("SELECT u FROM User u WHERE u.updatedAt > :since AND u.updatedAt <= :until ORDER BY u.updatedAt ASC, u.userId ASC")
+	List<User> findChanged(@Param("since") final Instant since, @Param("until") final Instant until, final Pageable pageable);
+	
+	@Query("SELECT COUNT(u) AS rowCount, MAX(u.updatedAt) AS lastUpdatedAt FROM User u")
+	TableVersion findTableVersion();
+	
 }
@@ -0,0 +1,7 @@
+package com.selimhorri.app.service;
+
+public interface CacheInvalidationPublisher {
+	
+	void publish(final String cacheName, final Integer id);
+	
+}
@@ -1,12 +1,21 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface UserService {
 	
 	List<UserDto> findAll();
+	DtoCollectionResponse<UserDto> findAll(final Pageable pageable, final Integer after, final boolean withCount);
+	List<UserDto> findAllByIds(final Collection<Integer> userIds);
+	DtoCollectionResponse<ChangeDto<UserDto>> findChanges(final Instant since, final Integer limit);
 	UserDto findById(final Integer userId);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
@@ -0,0 +1,71 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.cache.CacheInvalidationProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CacheInvalidationDto;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisherImpl implements CacheInvalidationPublisher {
+	
+	private final DiscoveryClient discoveryClient;
+	private final CacheInvalidationProperties cacheInvalidationProperties;
+	private final RestTemplate restTemplate;
+	
+	@Override
+	public void publish(final String cacheName, final Integer id) {
+		log.info("*** Void, service; publish remote cache invalidation *");
+		final var cacheInvalidationDto = CacheInvalidationDto.builder()
+				.cacheName(cacheName)
+				.ids(Set.of(id))
+				.build();
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					send(cacheInvalidationDto);
+				}
+			});
+		else
+			this.send(cacheInvalidationDto);
+	}
+	
+	private void send(final CacheInvalidationDto cacheInvalidationDto) {
+		this.cacheInvalidationProperties.getSubscribers().forEach(serviceId -> this.discoveryClient
+				.getInstances(serviceId)
+				.forEach(instance -> CompletableFuture
+						.runAsync(() -> this.restTemplate.postForObject(instance.getUri() + "/" 
+								+ serviceId.toLowerCase() + AppConstant.RemoteCache.INVALIDATION_API_PATH, 
+								cacheInvalidationDto, Boolean.class))
+						.exceptionally(e -> {
+							log.warn("*** Unable to invalidate {} cache on {}: {} *", 
+									cacheInvalidationDto.getCacheName(), instance.getUri(), e.toString());
+							return null;
+						})));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,54 @@
+package com.selimhorri.app.service.impl;
+
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OutboxEventDto;
+import com.selimhorri.app.service.OutboxEventBroker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes events to a subscribing service over HTTP. Subscribers keep their replicas in 
+ * their own database, so one instance per service accepting the event is enough.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HttpOutboxEventBroker implements OutboxEventBroker {
+	
+	private final DiscoveryClient discoveryClient;
+	private final RestTemplate restTemplate;
+	
+	@Override
+	public void publish(final String serviceId, final OutboxEventDto outboxEventDto) {
+		for (final var instance : this.discoveryClient.getInstances(serviceId)) {
+			try {
+				this.restTemplate.postForObject(instance.getUri() + "/" + serviceId.toLowerCase() 
+						+ AppConstant.Outbox.EVENTS_API_PATH, outboxEventDto, Boolean.class);
+				return;
+			}
+			catch (RestClientException e) {
+				log.warn("*** Unable to deliver outbox event {} to {}: {} *", 
+						outboxEventDto.getEventId(), instance.getUri(), e.toString());
+			}
+		}
+		throw new IllegalStateException(String.format("No instance of %s accepted outbox event %d", 
+				serviceId, outboxEventDto.getEventId()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
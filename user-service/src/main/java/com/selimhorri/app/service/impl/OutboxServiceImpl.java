@@ -0,0 +1,78 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.domain.OutboxEvent;
+import com.selimhorri.app.domain.OutboxEventType;
+import com.selimhorri.app.repository.OutboxEventRepository;
+import com.selimhorri.app.service.OutboxService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records change events in the caller's transaction, so an event exists if and only if 
+ * the change it describes was committed.
+ */
+@Service
+@Transactional
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+	
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+	
+	public OutboxServiceImpl(final OutboxEventRepository outboxEventRepository, final ObjectMapper objectMapper) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.objectMapper = objectMapper.copy()
+				.disable(SerializationFeature.INDENT_OUTPUT);
+	}
+	
+	@Override
+	public void recordUpsert(final String aggregateType, final Integer aggregateId, final Object payload) {
+		log.info("*** Void, service; record {} upsert outbox event *", aggregateType);
+		try {
+			this.record(aggregateType, aggregateId, OutboxEventType.UPSERTED, this.objectMapper.writeValueAsString(payload));
+		}
+		catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	@Override
+	public void recordDeletion(final String aggregateType, final Integer aggregateId) {
+		log.info("*** Void, service; record {} deletion outbox event *", aggregateType);
+		this.record(aggregateType, aggregateId, OutboxEventType.DELETED, null);
+	}
+	
+	private void record(final String aggregateType, final Integer aggregateId, 
+			final OutboxEventType eventType, final String payload) {
+		this.outboxEventRepository.save(OutboxEvent.builder()
+				.aggregateType(aggregateType)
+				.aggregateId(aggregateId)
+				.eventType(eventType)
+				.payload(payload)
+				.occurredAt(LocalDateTime.now())
+				.build());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,83 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.repository.projection.TableVersion;
+import com.selimhorri.app.service.TableVersionRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a precomputed version string per table so conditional GETs can be 
+ * answered without querying the table. The version combines a periodically 
+ * refreshed row count / max(updated_at) fingerprint, which picks up writes made 
+ * by other instances, with a local write counter bumped after each commit.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TableVersionRegistryImpl implements TableVersionRegistry {
+	
+	private final Map<String, Supplier<TableVersion>> sources;
+	private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> writes = new ConcurrentHashMap<>();
+	
+	@Override
+	public String versionOf(final String table) {
+		final var source = this.sources.get(table);
+		if (source == null)
+			throw new IllegalArgumentException(String.format("Table: %s is not versioned", table));
+		return this.fingerprints.computeIfAbsent(table, k -> fingerprint(source.get())) 
+				+ "#" + this.writes.computeIfAbsent(table, k -> new AtomicLong()).get();
+	}
+	
+	@Override
+	public void touch(final String table) {
+		if (!this.sources.containsKey(table))
+			return;
+		final var counter = this.writes.computeIfAbsent(table, k -> new AtomicLong());
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					counter.incrementAndGet();
+				}
+			});
+		else
+			counter.incrementAndGet();
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.etag.refresh-interval:PT5S}")
+	public void refresh() {
+		this.sources.forEach((table, source) -> {
+			final var fingerprint = fingerprint(source.get());
+			if (!fingerprint.equals(this.fingerprints.put(table, fingerprint)))
+				log.info("*** String, service; table {} fingerprint refreshed to {} *", table, fingerprint);
+		});
+	}
+	
+	private static String fingerprint(final TableVersion tableVersion) {
+		return tableVersion.getRowCount() + "@" + tableVersion.getLastUpdatedAt();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
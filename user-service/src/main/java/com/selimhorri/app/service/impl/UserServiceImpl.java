@@ -1,16 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ChangeDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
 import com.selimhorri.app.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 public class UserServiceImpl implements UserService {
 	
 	private final UserRepository userRepository;
+	private final CacheInvalidationPublisher cacheInvalidationPublisher;
+	private final OutboxService outboxService;
+	private final ChangeFeedService changeFeedService;
 	
 	@Override
 	public List<UserDto> findAll() {
@@ -34,6 +48,40 @@ public class UserServiceImpl implements UserService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		return this.userRepository.findAllById(userIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public DtoCollectionResponse<UserDto> findAll(final Pageable pageable, final Integer after, final boolean withCount) {
+		log.info("*** UserDto List, service; fetch users page *");
+		if (after != null)
+			return DtoCollectionResponse.of(this.userRepository
+					.findByUserIdGreaterThan(after, PageRequest.of(0, 
+							pageable.isPaged() ? pageable.getPageSize() : AppConstant.DEFAULT_PAGE_SIZE, 
+							Sort.by("userId")))
+					.map(UserMappingHelper::map), 
+					d -> String.valueOf(d.getUserId()), 
+					withCount ? this.userRepository.count() : null);
+		return DtoCollectionResponse.of((withCount ? this.userRepository.findAll(pageable) 
+				: this.userRepository.findAllBy(pageable))
+				.map(UserMappingHelper::map));
+	}
+	
+	@Override
+	public DtoCollectionResponse<ChangeDto<UserDto>> findChanges(final Instant since, final Integer limit) {
+		log.info("*** UserDto List, service; fetch user changes *");
+		return this.changeFeedService.findChanges(AppConstant.ChangeFeed.USERS, since, limit, 
+				this.userRepository::findChanged, UserMappingHelper::map, 
+				userId -> UserDto.builder().userId(Integer.parseInt(userId)).build());
+	}
+	
 	@Override
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
@@ -45,26 +93,37 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final var savedUserDto = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.outboxService.recordUpsert(AppConstant.Outbox.USERS, savedUserDto.getUserId(), savedUserDto);
+		return savedUserDto;
 	}
 	
 	@Override
 	public UserDto update(final UserDto userDto) {
 		log.info("*** UserDto, service; update user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		final var updatedUserDto = UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.USERS, updatedUserDto.getUserId());
+		this.outboxService.recordUpsert(AppConstant.Outbox.USERS, updatedUserDto.getUserId(), updatedUserDto);
+		return updatedUserDto;
 	}
 	
 	@Override
 	public UserDto update(final Integer userId, final UserDto userDto) {
 		log.info("*** UserDto, service; update user with userId *");
-		return UserMappingHelper.map(this.userRepository.save(
+		final var updatedUserDto = UserMappingHelper.map(this.userRepository.save(
 				UserMappingHelper.map(this.findById(userId))));
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.USERS, updatedUserDto.getUserId());
+		this.outboxService.recordUpsert(AppConstant.Outbox.USERS, updatedUserDto.getUserId(), updatedUserDto);
+		return updatedUserDto;
 	}
 	
 	@Override
 	public void deleteById(final Integer userId) {
 		log.info("*** Void, service; delete user by id *");
 		this.userRepository.deleteById(userId);
+		this.cacheInvalidationPublisher.publish(AppConstant.RemoteCache.USERS, userId);
+		this.outboxService.recordDeletion(AppConstant.Outbox.USERS, userId);
+		this.changeFeedService.recordDeletion(AppConstant.ChangeFeed.USERS, String.valueOf(userId));
 	}
 	
 	@Override
@@ -0,0 +1,13 @@
+
+CREATE TABLE outbox_events (
+	outbox_event_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	aggregate_type VARCHAR(64) NOT NULL,
+	aggregate_id INT(11) NOT NULL,
+	event_type VARCHAR(16) NOT NULL,
+	payload VARCHAR(4000),
+	occurred_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL,
+	published_at TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_events_published_at ON outbox_events (published_at, outbox_event_id);
+
@@ -15,11 +15,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.repository.UserRepository;
+import com.selimhorri.app.service.CacheInvalidationPublisher;
+import com.selimhorri.app.service.ChangeFeedService;
+import com.selimhorri.app.service.OutboxService;
 import com.selimhorri.app.service.impl.UserServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +33,15 @@ class UserServiceImplTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@Mock
+	private ChangeFeedService changeFeedService;
+
 	@InjectMocks
 	private UserServiceImpl userService;
 
@@ -101,6 +114,28 @@ class UserServiceImplTest {
 		verify(userRepository, times(1)).findAll();
 	}
 
+	@Test
+	@DisplayName("findAllByIds - Debe retornar usuarios solicitados en una sola consulta")
+	void testFindAllByIds_Success() {
+		User user2 = User.builder()
+				.userId(2)
+				.firstName("Juan")
+				.lastName("Perez")
+				.credentialId(2)
+				.build();
+
+		when(userRepository.findAllById(List.of(1, 2))).thenReturn(List.of(user, user2));
+
+		List<UserDto> result = userService.findAllByIds(List.of(1, 2));
+
+		assertEquals(2, result.size());
+		assertEquals(1, result.get(0).getUserId());
+		assertEquals(2, result.get(1).getUserId());
+
+		verify(userRepository, times(1)).findAllById(List.of(1, 2));
+		verify(userRepository, never()).findById(anyInt());
+	}
+
 	@Test
 	@DisplayName("findById - Debe retornar usuario por ID")
 	void testFindById_Success() {
@@ -246,6 +281,32 @@ class UserServiceImplTest {
 		verify(userRepository, times(1)).save(any(User.class));
 	}
 
+	@Test
+	@DisplayName("update - Debe publicar invalidacion de cache del usuario actualizado")
+	void testUpdate_PublishesCacheInvalidation() {
+		when(userRepository.save(any(User.class))).thenReturn(user);
+
+		userService.update(userDto);
+
+		verify(cacheInvalidationPublisher, times(1)).publish(AppConstant.RemoteCache.USERS, 1);
+	}
+
+	@Test
+	@DisplayName("deleteById - Debe publicar invalidacion de cache del usuario eliminado")
+	void testDeleteById_PublishesCacheInvalidation() {
+		userService.deleteById(7);
+
+		verify(cacheInvalidationPublisher, times(1)).publish(AppConstant.RemoteCache.USERS, 7);
+	}
+
+	@Test
+	@DisplayName("deleteById - Debe registrar un tombstone para el feed de cambios")
+	void testDeleteById_RecordsTombstone() {
+		userService.deleteById(7);
+
+		verify(changeFeedService, times(1)).recordDeletion(AppConstant.ChangeFeed.USERS, "7");
+	}
+
 	@Test
 	@DisplayName("update - Debe lanzar excepción cuando usuario a actualizar no existe")
 	void testUpdate_WithId_NotFound() {